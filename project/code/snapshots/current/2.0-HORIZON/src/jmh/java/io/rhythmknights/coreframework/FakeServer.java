@@ -0,0 +1,279 @@
+package io.rhythmknights.coreframework;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A headless Bukkit server for the startup benchmark
+ * Only what CoreFramework touches during startup is answered: plugin lookups, event registration,
+ * scheduling (tasks are accepted but never run) and the console, which counts what it receives
+ * instead of printing it. Every other call returns an empty default.
+ */
+final class FakeServer {
+
+    private static final String VERSION = "1.21.5-R0.1-SNAPSHOT";
+
+    private static FakeServer installed;
+
+    private final Logger logger;
+    private final Map<String, Plugin> plugins;
+    private final LongAdder consoleLines;
+    private final LongAdder consoleBytes;
+
+    private final Server server;
+    private final PluginManager pluginManager;
+    private final BukkitScheduler scheduler;
+    private final ConsoleCommandSender console;
+
+    private FakeServer() {
+        this.logger = Logger.getLogger("FakeServer");
+        this.logger.setUseParentHandlers(false);
+        this.plugins = new ConcurrentHashMap<>();
+        this.consoleLines = new LongAdder();
+        this.consoleBytes = new LongAdder();
+
+        this.pluginManager = proxy(PluginManager.class, this::pluginManagerCall);
+        this.scheduler = proxy(BukkitScheduler.class, (method, args) -> defaultValue(method.getReturnType()));
+        this.console = proxy(ConsoleCommandSender.class, this::consoleCall);
+        this.server = proxy(Server.class, this::serverCall);
+    }
+
+    /**
+     * Install the fake server as the Bukkit server
+     * Bukkit only accepts one server per JVM, so later calls return the same instance
+     *
+     * @return The installed fake server
+     */
+    static synchronized FakeServer install() {
+        if (installed == null) {
+            installed = new FakeServer();
+            Bukkit.setServer(installed.server);
+        }
+        return installed;
+    }
+
+    /**
+     * Get the proxied server
+     *
+     * @return The server
+     */
+    Server getServer() {
+        return server;
+    }
+
+    /**
+     * Add a plugin the plugin manager will report as installed and enabled
+     *
+     * @param name The plugin name
+     * @param version The plugin version
+     * @return The plugin
+     */
+    Plugin addPlugin(String name, String version) {
+        PluginDescriptionFile description = new PluginDescriptionFile(name, version, "synthetic." + name);
+        Plugin plugin = proxy(Plugin.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "getDescription":
+                    return description;
+                case "isEnabled":
+                    return true;
+                case "getLogger":
+                    return logger;
+                case "getServer":
+                    return server;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        plugins.put(name, plugin);
+        return plugin;
+    }
+
+    /**
+     * Remove every added plugin and reset the console counters
+     */
+    void reset() {
+        plugins.clear();
+        consoleLines.reset();
+        consoleBytes.reset();
+    }
+
+    /**
+     * Get the number of console messages received since the last reset
+     *
+     * @return The message count
+     */
+    long getConsoleLines() {
+        return consoleLines.sum();
+    }
+
+    /**
+     * Get the UTF-8 size of the console messages received since the last reset
+     *
+     * @return The size in bytes
+     */
+    long getConsoleBytes() {
+        return consoleBytes.sum();
+    }
+
+    private Object serverCall(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getPluginManager":
+                return pluginManager;
+            case "getScheduler":
+                return scheduler;
+            case "getConsoleSender":
+                return console;
+            case "getLogger":
+                return logger;
+            case "getName":
+                return "FakeServer";
+            case "getVersion":
+            case "getBukkitVersion":
+                return VERSION;
+            case "isPrimaryThread":
+                return true;
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private Object pluginManagerCall(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getPlugin":
+                return plugins.get((String) args[0]);
+            case "getPlugins":
+                return plugins.values().toArray(new Plugin[0]);
+            case "isPluginEnabled":
+                return args[0] instanceof String ? plugins.containsKey(args[0]) : plugins.containsValue(args[0]);
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private Object consoleCall(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "sendMessage":
+                if (args != null) {
+                    for (Object arg : args) {
+                        if (arg instanceof String) {
+                            record((String) arg);
+                        } else if (arg instanceof String[]) {
+                            for (String message : (String[]) arg) {
+                                record(message);
+                            }
+                        }
+                    }
+                }
+                return null;
+            case "getName":
+                return "CONSOLE";
+            case "getServer":
+                return server;
+            case "isOp":
+            case "hasPermission":
+                return true;
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private void record(String message) {
+        consoleLines.increment();
+        consoleBytes.add(message.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * The value returned for calls the fake does not answer
+     */
+    private Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == double.class) {
+            return 0.0d;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == BukkitTask.class) {
+            return proxy(BukkitTask.class, (method, args) -> defaultValue(method.getReturnType()));
+        }
+        if (type == Logger.class) {
+            return logger;
+        }
+        if (type == List.class || type == Collection.class) {
+            return new ArrayList<>();
+        }
+        if (type == Set.class) {
+            return Collections.emptySet();
+        }
+        if (type == Map.class) {
+            return Collections.emptyMap();
+        }
+        if (type.isArray()) {
+            return Array.newInstance(type.getComponentType(), 0);
+        }
+        return null;
+    }
+
+    /**
+     * Answers the calls made on one proxied interface
+     */
+    private interface Handler {
+        Object handle(Method method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return self == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(self);
+                    default:
+                        return type.getSimpleName() + "@FakeServer";
+                }
+            }
+            return handler.handle(method, args);
+        });
+        return type.cast(proxy);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package io.rhythmknights.coreframework;
+
+import io.rhythmknights.coreframework.component.api.FrameworkAPI;
+import io.rhythmknights.coreframework.component.api.hook.HookRequirement;
+import io.rhythmknights.coreframework.component.api.plugin.RegisteredPlugin;
+import io.rhythmknights.coreframework.component.core.CoreBootstrap;
+import io.rhythmknights.coreframework.component.core.OutputCache;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures how CoreFramework startup scales with the number of registered plugins
+ * Runs the framework against a {@link FakeServer}: for every plugin count, a fresh framework is loaded
+ * and enabled, N synthetic plugins with M hook requirements each register through the API, and the
+ * startup output is prepared and flushed. Each phase is timed separately; the median of all measured
+ * rounds is written as one CSV row per plugin count.
+ *
+ * Arguments (all optional, key=value):
+ * sizes=5,10,25,50,100,250,500 hooks=4 rounds=7 warmup=3 output=build/reports/startup/startup.csv
+ */
+public final class StartupBenchmark {
+
+    private static final String[] PHASES = {
+        "on_load", "on_enable", "register", "prepare_header", "prepare_hook_status", "flush"
+    };
+
+    private final FakeServer server;
+    private final int hooks;
+
+    private StartupBenchmark(FakeServer server, int hooks) {
+        this.server = server;
+        this.hooks = hooks;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = {5, 10, 25, 50, 100, 250, 500};
+        int hooks = 4;
+        int rounds = 7;
+        int warmup = 3;
+        Path output = Paths.get("build", "reports", "startup", "startup.csv");
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator > 0 ? arg.substring(0, separator) : arg;
+            String value = separator > 0 ? arg.substring(separator + 1) : "";
+            switch (key) {
+                case "sizes":
+                    sizes = Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "hooks":
+                    hooks = Integer.parseInt(value);
+                    break;
+                case "rounds":
+                    rounds = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "output":
+                    output = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(FakeServer.install(), hooks);
+        List<String> csv = new ArrayList<>();
+        csv.add("plugins,hooks," + String.join("_us,", PHASES) + "_us,total_us,lines,console_bytes");
+
+        for (int size : sizes) {
+            // Warm up the JIT on the same size, then keep the median of the measured rounds
+            for (int round = 0; round < warmup; round++) {
+                benchmark.run(size);
+            }
+            long[][] samples = new long[PHASES.length][rounds];
+            Result last = null;
+            for (int round = 0; round < rounds; round++) {
+                last = benchmark.run(size);
+                for (int phase = 0; phase < PHASES.length; phase++) {
+                    samples[phase][round] = last.nanos[phase];
+                }
+            }
+
+            StringBuilder row = new StringBuilder().append(size).append(',').append(hooks);
+            long total = 0L;
+            for (long[] phase : samples) {
+                long median = median(phase);
+                total += median;
+                row.append(',').append(micros(median));
+            }
+            row.append(',').append(micros(total));
+            row.append(',').append(last != null ? last.lines : 0);
+            row.append(',').append(last != null ? last.consoleBytes : 0);
+            csv.add(row.toString());
+            System.out.println(row);
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, csv, StandardCharsets.UTF_8);
+
+        System.out.println();
+        System.out.println(String.join(System.lineSeparator(), csv));
+        System.out.println("Startup benchmark written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Run one full startup with a number of registered plugins
+     */
+    private Result run(int size) throws IOException {
+        server.reset();
+        List<Plugin> plugins = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            plugins.add(server.addPlugin("Synthetic" + i, "1.0." + i));
+        }
+        // Every other hook target is installed, so both hook outcomes are rendered
+        for (int hook = 0; hook < hooks; hook += 2) {
+            server.addPlugin("HookTarget" + hook, "2.0." + hook);
+        }
+
+        Path dataFolder = Files.createTempDirectory("coreframework-startup");
+        CoreFramework framework = createFramework(dataFolder.toFile());
+        long[] nanos = new long[PHASES.length];
+
+        try {
+            long start = System.nanoTime();
+            framework.onLoad();
+            nanos[0] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            framework.onEnable();
+            nanos[1] = System.nanoTime() - start;
+
+            // Registration includes the early display CoreFramework triggers once enough plugins registered
+            FrameworkAPI api = CoreFramework.getAPI();
+            start = System.nanoTime();
+            for (Plugin plugin : plugins) {
+                api.registerPlugin(plugin, plugin.getDescription().getVersion(), "BENCH", hookRequirements());
+            }
+            nanos[2] = System.nanoTime() - start;
+
+            // Measure the full startup block on its own, independent of when the early display fired
+            OutputCache outputCache = framework.getOutputCache();
+            CoreBootstrap bootstrap = framework.getCoreBootstrap();
+            outputCache.clear();
+
+            start = System.nanoTime();
+            bootstrap.prepareStartupHeaderOnly();
+            nanos[3] = System.nanoTime() - start;
+
+            List<RegisteredPlugin> registered = framework.getCoreRegistry().getRegisteredPlugins();
+            start = System.nanoTime();
+            bootstrap.preparePluginHookStatuses(registered);
+            nanos[4] = System.nanoTime() - start;
+
+            int lines = outputCache.size();
+            long bytesBefore = server.getConsoleBytes();
+            start = System.nanoTime();
+            outputCache.flush();
+            nanos[5] = System.nanoTime() - start;
+
+            return new Result(nanos, lines, server.getConsoleBytes() - bytesBefore);
+        } finally {
+            framework.onDisable();
+            deleteRecursively(dataFolder);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private CoreFramework createFramework(File dataFolder) {
+        PluginDescriptionFile description = new PluginDescriptionFile("CoreFramework", "2.0-HORIZON", CoreFramework.class.getName());
+        JavaPluginLoader loader = new JavaPluginLoader(server.getServer());
+        return new CoreFramework(loader, description, dataFolder, new File(dataFolder, "CoreFramework.jar"));
+    }
+
+    private List<HookRequirement> hookRequirements() {
+        List<HookRequirement> requirements = new ArrayList<>(hooks);
+        for (int hook = 0; hook < hooks; hook++) {
+            String target = "HookTarget" + hook;
+            requirements.add(hook % 3 == 0 ? HookRequirement.required(target, "1.0") : HookRequirement.optional(target, "1.0"));
+        }
+        return requirements;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String micros(long nanos) {
+        return Long.toString(nanos / 1000L);
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * The phase timings of one run
+     */
+    private static final class Result {
+        private final long[] nanos;
+        private final int lines;
+        private final long consoleBytes;
+
+        private Result(long[] nanos, int lines, long consoleBytes) {
+            this.nanos = nanos;
+            this.lines = lines;
+            this.consoleBytes = consoleBytes;
+        }
+    }
+}
\ No newline at end of file
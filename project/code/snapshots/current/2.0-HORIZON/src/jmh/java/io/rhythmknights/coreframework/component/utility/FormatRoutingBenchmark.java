@@ -0,0 +1,64 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the classifier-routed parse against always using the full MiniMessage parser
+ * Both paths bypass the parse cache so the parser cost itself is measured
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatRoutingBenchmark {
+
+    @Param({"PLAIN", "LEGACY", "MINI_MESSAGE", "MIXED"})
+    public String inputClass;
+
+    private String message;
+
+    /**
+     * Pick the sample message for the input class being measured
+     */
+    @Setup
+    public void setup() {
+        switch (inputClass) {
+            case "PLAIN":
+                message = "Framework and all registered plugins have been disabled.";
+                break;
+            case "LEGACY":
+                message = "&8[&9CoreFramework&8] &7Plugin &6CoreTags &7has been registered.";
+                break;
+            case "MINI_MESSAGE":
+                message = "<dark_grey>[</dark_grey><blue>CoreFramework</blue><dark_grey>]</dark_grey> <grey>Plugin</grey> <gold>CoreTags</gold> <grey>has been registered.</grey>";
+                break;
+            default:
+                message = "&8[<blue>CoreFramework</blue>&8] &#FFAA00Plugin <gold>CoreTags</gold> &7has been registered.";
+                break;
+        }
+    }
+
+    @Benchmark
+    public FormatClassifier.Format classify() {
+        return FormatClassifier.classify(message);
+    }
+
+    @Benchmark
+    public Component routed() {
+        return TextUtility.parseUncached(message);
+    }
+
+    @Benchmark
+    public Component fullParser() {
+        return TextUtility.parseFull(message);
+    }
+}
\ No newline at end of file
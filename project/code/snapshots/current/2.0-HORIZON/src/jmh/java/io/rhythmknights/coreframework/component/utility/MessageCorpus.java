@@ -0,0 +1,143 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark inputs built from the shipped language file plus synthetic worst cases
+ * The language file and framework configuration are read from the main resources on the benchmark classpath
+ */
+final class MessageCorpus {
+
+    /**
+     * Private constructor to prevent instantiation of utility class
+     */
+    private MessageCorpus() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * The groups of messages a benchmark can run against
+     */
+    enum Kind {
+        /** Every non-empty line of lang/global.yml */
+        LANG,
+        /** Lines several times longer than a console line */
+        LONG,
+        /** Lines made mostly of hex color codes in both syntaxes */
+        HEX,
+        /** Legacy codes, MiniMessage tags and placeholders mixed within one line */
+        MIXED
+    }
+
+    /**
+     * Apply the formatting settings from the shipped configuration, as the plugin does on load
+     */
+    static void applySettings() {
+        TextUtility.applySettings(FormattingSettings.fromConfig(load("framework.yml"), load("lang/global.yml")));
+    }
+
+    /**
+     * Build the messages of a corpus
+     *
+     * @param kind The corpus to build
+     * @return The raw (unprocessed) messages
+     */
+    static String[] messages(Kind kind) {
+        switch (kind) {
+            case LANG:
+                return languageLines();
+            case LONG:
+                return longLines();
+            case HEX:
+                return hexLines();
+            default:
+                return mixedLines();
+        }
+    }
+
+    /**
+     * Replacement pairs covering every placeholder used by the corpus
+     */
+    static String[] replacements() {
+        return new String[] {
+            "plugin", "CoreTags",
+            "version", "2.0-HORIZON",
+            "codename", "HORIZON",
+            "plugins", "CoreCommands, CoreExceed, CoreFlags, CoreTags, CoreWidgets",
+            "player", "RhythmKnight",
+            "count", "42"
+        };
+    }
+
+    private static String[] languageLines() {
+        YamlConfiguration language = load("lang/global.yml");
+        List<String> lines = new ArrayList<>();
+        for (String key : language.getKeys(true)) {
+            if (language.isString(key)) {
+                String line = language.getString(key);
+                if (line != null && !line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private static String[] longLines() {
+        String[] lines = new String[8];
+        for (int i = 0; i < lines.length; i++) {
+            StringBuilder builder = new StringBuilder("{prefix} <grey>");
+            for (int word = 0; word < 60 + i * 10; word++) {
+                builder.append(word % 7 == 0 ? "<yellow>{plugin}</yellow> " : "lorem ");
+            }
+            lines[i] = builder.append("</grey> <dark_grey>{scaled.separator}</dark_grey>").toString();
+        }
+        return lines;
+    }
+
+    private static String[] hexLines() {
+        String[] lines = new String[8];
+        for (int i = 0; i < lines.length; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int c = 0; c < 24; c++) {
+                String hex = String.format("%06X", (i * 24 + c) * 0x0A0B0C & 0xFFFFFF);
+                builder.append(c % 2 == 0 ? "&#" + hex + "x" : "<#" + hex + ">y</#" + hex + ">");
+            }
+            lines[i] = builder.toString();
+        }
+        return lines;
+    }
+
+    private static String[] mixedLines() {
+        return new String[] {
+            "&8[<blue>CoreFramework</blue>&8] &#FFAA00Plugin <gold>{plugin}</gold> &7has been registered.",
+            "{prefix} &7Player &e{player} <gradient:#FF0000:#0000FF>joined</gradient> &8(&f{count}&8)",
+            "&l&n{plugin}&r <hover:show_text:'<red>v{version}</red>'>&7details</hover> &#00FF00ok",
+            "<blue>|</blue> &6{plugin} <dark_grey>{scaled.separator}</dark_grey> &a&lHOOKED &#123456[{codename}]",
+            "§8[§9Core§8] <yellow>{plugins}</yellow> §7loaded in &b{count}ms",
+            "&c&lERROR&r <red>{plugin}</red> &7requires <gold>{plugins}</gold> &8- <st>&7v{version}</st>"
+        };
+    }
+
+    /**
+     * Load a YAML resource from the classpath
+     */
+    private static YamlConfiguration load(String path) {
+        InputStream stream = MessageCorpus.class.getClassLoader().getResourceAsStream(path);
+        if (stream == null) {
+            throw new IllegalStateException("Benchmark resource not found on the classpath: " + path);
+        }
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load benchmark resource: " + path, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message cost of the TextUtility hot paths over a corpus
+ * Each invocation runs the whole corpus, so results are per corpus pass; divide by the corpus size
+ * printed at setup for a per-message figure. Run with the gc profiler to compare allocation per pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextUtilityBenchmark {
+
+    @Param({"LANG", "LONG", "HEX", "MIXED"})
+    public String corpus;
+
+    private String[] raw;
+    private String[] substituted;
+    private String[] processed;
+    private String[] replacements;
+
+    /**
+     * Build the corpus and its processed forms with the shipped formatting settings
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        MessageCorpus.applySettings();
+        TextUtility.configureParseCache(true, 1024, 0L);
+        TextUtility.configureTemplateCache(512);
+
+        raw = MessageCorpus.messages(MessageCorpus.Kind.valueOf(corpus));
+        replacements = MessageCorpus.replacements();
+        substituted = new String[raw.length];
+        processed = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            substituted[i] = TextUtility.replaceVariables(raw[i], replacements);
+            processed[i] = TextUtility.processMessage(substituted[i]);
+        }
+        System.out.println("Corpus " + corpus + ": " + raw.length + " messages");
+    }
+
+    @Benchmark
+    public void replaceVariables(Blackhole blackhole) {
+        for (String message : raw) {
+            blackhole.consume(TextUtility.replaceVariables(message, replacements));
+        }
+    }
+
+    @Benchmark
+    public void processMessage(Blackhole blackhole) {
+        for (String message : substituted) {
+            blackhole.consume(TextUtility.processMessage(message));
+        }
+    }
+
+    @Benchmark
+    public void parseCached(Blackhole blackhole) {
+        for (String message : processed) {
+            blackhole.consume(TextUtility.parse(message));
+        }
+    }
+
+    @Benchmark
+    public void parseUncached(Blackhole blackhole) {
+        for (String message : processed) {
+            blackhole.consume(TextUtility.parseUncached(message));
+        }
+    }
+
+    @Benchmark
+    public void stripFormattingForLength(Blackhole blackhole) {
+        for (String message : processed) {
+            blackhole.consume(TextUtility.stripFormattingForLength(message));
+        }
+    }
+
+    /**
+     * The full path of a language line: substitute, process, parse
+     */
+    @Benchmark
+    public void endToEnd(Blackhole blackhole) {
+        for (String message : raw) {
+            blackhole.consume(TextUtility.parse(TextUtility.processMessage(TextUtility.replaceVariables(message, replacements))));
+        }
+    }
+}
\ No newline at end of file
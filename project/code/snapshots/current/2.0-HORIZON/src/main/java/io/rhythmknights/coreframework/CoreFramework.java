@@ -5,19 +5,41 @@ import io.rhythmknights.coreframework.component.api.hook.HookRequirement;
 import io.rhythmknights.coreframework.component.api.plugin.RegisteredPlugin;
 import io.rhythmknights.coreframework.component.core.CoreRegistry;
 import io.rhythmknights.coreframework.component.core.CoreBootstrap;
+import io.rhythmknights.coreframework.component.core.LanguageBundle;
+import io.rhythmknights.coreframework.component.core.LanguageManager;
+import io.rhythmknights.coreframework.component.core.LanguageValidationReport;
+import io.rhythmknights.coreframework.component.core.LanguageValidator;
 import io.rhythmknights.coreframework.component.core.OutputCache;
+import io.rhythmknights.coreframework.component.core.PluginIndex;
+import io.rhythmknights.coreframework.component.core.StartupReport;
+import io.rhythmknights.coreframework.component.core.StartupReportWriter;
+import io.rhythmknights.coreframework.component.utility.ConsoleWriter;
+import io.rhythmknights.coreframework.component.utility.FormattingSettings;
 import io.rhythmknights.coreframework.component.utility.TextUtility;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.event.Listener;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
 import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 
 /**
@@ -26,18 +48,28 @@ import java.util.logging.Level;
  */
 public class CoreFramework extends JavaPlugin implements Listener {
     
+    // How long onDisable waits for a startup report that is still being written
+    private static final long STARTUP_REPORT_TIMEOUT_MILLIS = 2000L;
+    
     private static CoreFramework instance;
     private static FrameworkAPI api;
     
     private YamlConfiguration internalConfig;
     private YamlConfiguration languageConfig;
+    private LanguageBundle languageBundle;
+    private LanguageManager languageManager;
+    private boolean languageValid;
     private CoreRegistry coreRegistry;
     private CoreBootstrap coreBootstrap;
     private OutputCache outputCache;
+    private StartupReport startupReport;
+    private CompletableFuture<Void> pendingStartupReport;
+    private PluginIndex pluginIndex;
     
     // Delayed display system
     private boolean displayingStartup = false;
     private boolean delayedDisplayScheduled = false;
+    private BukkitTask delayedDisplayTask;
     
     /**
      * Default constructor for CoreFramework
@@ -48,20 +80,38 @@ public class CoreFramework extends JavaPlugin implements Listener {
         getLogger().info("CoreFramework constructor called");
     }
     
+    /**
+     * Constructor for running CoreFramework outside a server, e.g. in the startup benchmark
+     * Bukkit only accepts this constructor when the plugin was not loaded by a plugin class loader
+     * 
+     * @param loader The plugin loader
+     * @param description The plugin description
+     * @param dataFolder The plugin data folder
+     * @param file The plugin jar file
+     */
+    protected CoreFramework(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
+    
     @Override
     public void onLoad() {
         getLogger().info("CoreFramework onLoad() starting");
+        long loadStart = System.nanoTime();
         instance = this;
         getLogger().info("CoreFramework instance set to: " + instance);
         
         // Load configurations
         loadInternalConfig();
         loadLanguageConfig();
+        applyFormattingSettings();
+        languageValid = compileLanguage();
         
         // Initialize output cache
-        this.outputCache = new OutputCache();
+        this.outputCache = new OutputCache(internalConfig.getInt("output.max_lines", OutputCache.DEFAULT_CAPACITY));
+        this.startupReport = new StartupReport(getDescription().getVersion(), internalConfig.getString("coreapi.version", "unknown"));
         
         // Initialize core components (but NOT TextUtility yet)
+        this.pluginIndex = new PluginIndex();
         this.coreRegistry = new CoreRegistry(this);
         this.coreBootstrap = new CoreBootstrap(this, outputCache);
         
@@ -69,6 +119,7 @@ public class CoreFramework extends JavaPlugin implements Listener {
         api = new FrameworkAPI(this);
         getLogger().info("CoreFramework API initialized: " + api);
         
+        startupReport.recordPhase("load", System.nanoTime() - loadStart);
         getLogger().info("CoreFramework loaded - Ready for plugin registration");
         getLogger().info("CoreFramework onLoad() completed - instance: " + instance + ", api: " + api);
     }
@@ -76,15 +127,28 @@ public class CoreFramework extends JavaPlugin implements Listener {
     @Override
     public void onEnable() {
         //getLogger().info("CoreFramework onEnable() starting - instance: " + instance + ", api: " + api); - STARTUP LOGGER
+        long enableStart = System.nanoTime();
+        
+        // The language failed validation during onLoad, see the report above
+        if (!languageValid) {
+            getLogger().severe("Language lines do not fit the configured line_length! Disabling CoreFramework.");
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
         
         // NOW we can initialize TextUtility (during onEnable when event registration is allowed)
         TextUtility.initialize(this);
+        configureTextUtility();
+        
+        // Index the installed plugins once, the listener below keeps the index current
+        pluginIndex.rebuild();
         
         // Register this class as an event listener
         Bukkit.getPluginManager().registerEvents(this, this);
         
         // Prepare the header information but don't display it yet
         coreBootstrap.prepareStartupHeaderOnly();
+        startupReport.recordPhase("enable", System.nanoTime() - enableStart);
         
         // Schedule the delayed display check
         scheduleDelayedDisplay();
@@ -97,10 +161,13 @@ public class CoreFramework extends JavaPlugin implements Listener {
         getLogger().info("CoreFramework onDisable() called - instance: " + instance);
         
         // Display shutdown message
-        if (coreBootstrap != null) {
+        if (coreBootstrap != null && languageBundle != null) {
             coreBootstrap.displayShutdownMessage();
         }
         
+        // Let a startup report that is still being written finish before the data folder may go away
+        awaitStartupReport();
+        
         // Cleanup
         TextUtility.close();
         
@@ -152,7 +219,7 @@ public class CoreFramework extends JavaPlugin implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onServerLoad(ServerLoadEvent event) {
         // Cancel any scheduled display task
-        Bukkit.getScheduler().cancelTasks(this);
+        cancelDelayedDisplay();
         
         // Display the plugin statuses now that server is fully loaded
         if (!displayingStartup) {
@@ -160,6 +227,51 @@ public class CoreFramework extends JavaPlugin implements Listener {
         }
     }
     
+    /**
+     * Keep the plugin index current when a plugin is enabled
+     * 
+     * @param event The plugin enable event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        pluginIndex.update(event.getPlugin(), true);
+    }
+    
+    /**
+     * Keep the plugin index current when a plugin is disabled
+     * 
+     * @param event The plugin disable event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        pluginIndex.update(event.getPlugin(), false);
+    }
+    
+    /**
+     * Release the per-player display state and cached locale when a player leaves
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        TextUtility.releasePlayer(event.getPlayer());
+        if (languageManager != null) {
+            languageManager.release(event.getPlayer().getUniqueId());
+        }
+    }
+    
+    /**
+     * Keep the cached locale of a player in sync with their client language
+     * 
+     * @param event The locale change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLocaleChange(PlayerLocaleChangeEvent event) {
+        if (languageManager != null) {
+            languageManager.updateLocale(event.getPlayer(), event.getLocale());
+        }
+    }
+    
     /**
      * Schedule a delayed task to display all plugin hook statuses
      * This ensures all plugins have time to register before we display
@@ -170,33 +282,48 @@ public class CoreFramework extends JavaPlugin implements Listener {
         
         // Wait longer to ensure all plugins finish loading and their messages are done
         // This is a fallback in case ServerLoadEvent doesn't fire (older server versions)
-        Bukkit.getScheduler().runTaskLater(this, () -> {
+        delayedDisplayTask = Bukkit.getScheduler().runTaskLater(this, () -> {
+            delayedDisplayTask = null;
             if (!displayingStartup) {
                 displayAllPluginStatuses();
             }
         }, 100L); // 100 ticks = ~5 seconds delay as fallback
     }
     
+    /**
+     * Cancel the delayed display task if it is still pending
+     * Only this task is cancelled; the async pipeline and message coalescer own repeating tasks on this plugin too
+     */
+    private void cancelDelayedDisplay() {
+        if (delayedDisplayTask != null) {
+            delayedDisplayTask.cancel();
+            delayedDisplayTask = null;
+        }
+    }
+    
     /**
      * Display all registered plugin hook statuses at once
      * This creates the uninterrupted display after all Bukkit messages
      */
     private void displayAllPluginStatuses() {
         if (displayingStartup) return; // Prevent duplicate calls
+        if (languageBundle == null) return; // Language failed validation, nothing can be displayed
         displayingStartup = true;
+        long displayStart = System.nanoTime();
         
         List<RegisteredPlugin> allRegistered = getCoreRegistry().getRegisteredPlugins();
+        if ("alphabetical".equalsIgnoreCase(internalConfig.getString("output.plugin_order", "registration"))) {
+            allRegistered.sort(Comparator.comparing(RegisteredPlugin::getName, String.CASE_INSENSITIVE_ORDER));
+        }
         
         if (allRegistered.isEmpty()) {
             outputCache.addLine("No plugins registered with CoreFramework yet.");
             // Still add the closing separator
-            String separator = getLanguageConfig().getString("startup.separator", "");
+            String separator = languageBundle.format("startup.separator");
             outputCache.addLine(separator);
         } else {
             // Prepare each plugin's hook status
-            for (RegisteredPlugin plugin : allRegistered) {
-                coreBootstrap.preparePluginHookStatus(plugin);
-            }
+            coreBootstrap.preparePluginHookStatuses(allRegistered);
             
             // Collect successful and failed plugins
             List<String> successful = new ArrayList<>();
@@ -212,12 +339,49 @@ public class CoreFramework extends JavaPlugin implements Listener {
             
             // Prepare final activation summary
             coreBootstrap.prepareActivationSummary(successful, failed);
+            startupReport.recordActivation(successful, failed);
         }
+        startupReport.recordPhase("prepare", System.nanoTime() - displayStart);
         
         // Now that all output is prepared, display it at once
-        outputCache.flush();
+        long flushStart = System.nanoTime();
+        List<String> displayed = outputCache.flushLines();
+        startupReport.recordPhase("flush", System.nanoTime() - flushStart);
+        startupReport.recordOutput(displayed, outputCache.getDroppedCount());
         
         getLogger().info("CoreFramework startup display completed.");
+        writeStartupReport();
+    }
+    
+    /**
+     * Write the startup report files in the background, if enabled
+     */
+    private void writeStartupReport() {
+        StartupReportWriter writer = StartupReportWriter.fromConfig(getDataFolder(), internalConfig, getLogger());
+        if (writer != null) {
+            pendingStartupReport = writer.write(startupReport);
+        }
+    }
+    
+    /**
+     * Wait up to a short timeout for the startup report to be written
+     */
+    private void awaitStartupReport() {
+        CompletableFuture<Void> report = pendingStartupReport;
+        if (report == null) {
+            return;
+        }
+        pendingStartupReport = null;
+        
+        try {
+            report.get(STARTUP_REPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            getLogger().warning("The startup report is still being written, not waiting for it any longer.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            getLogger().log(Level.WARNING, "Failed to write the startup report!", e.getCause());
+        }
     }
     
     /**
@@ -234,11 +398,107 @@ public class CoreFramework extends JavaPlugin implements Listener {
         // Check if all expected plugins are registered
         if (registered.size() >= expectedPlugins.size() && !displayingStartup) {
             // Cancel the scheduled task and display immediately
-            Bukkit.getScheduler().cancelTasks(this);
+            cancelDelayedDisplay();
             displayAllPluginStatuses();
         }
     }
     
+    /**
+     * Reload the internal and language configurations
+     * The formatting settings snapshot is swapped atomically and all cached messages are dropped
+     * A language that fails validation is rejected and the previous configuration stays active
+     * 
+     * @return True if the reload succeeded
+     */
+    public boolean reloadFramework() {
+        YamlConfiguration previousInternalConfig = internalConfig;
+        YamlConfiguration previousLanguageConfig = languageConfig;
+        
+        try {
+            loadInternalConfig();
+            loadLanguageConfig();
+            applyFormattingSettings();
+            
+            if (!compileLanguage()) {
+                internalConfig = previousInternalConfig;
+                languageConfig = previousLanguageConfig;
+                applyFormattingSettings();
+                getLogger().severe("Reload rejected, keeping the previous language configuration.");
+                return false;
+            }
+            
+            configureTextUtility();
+            return true;
+        } catch (RuntimeException e) {
+            getLogger().log(Level.SEVERE, "Failed to reload CoreFramework configuration!", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Compile the formatting values into an immutable snapshot and hand it to TextUtility
+     */
+    private void applyFormattingSettings() {
+        TextUtility.applySettings(FormattingSettings.fromConfig(internalConfig, languageConfig));
+    }
+    
+    /**
+     * Compile the language lines against the current formatting settings and validate them
+     * The validation report is logged once; only a language without errors becomes active
+     * 
+     * @return True if the language passed validation
+     */
+    private boolean compileLanguage() {
+        LanguageBundle bundle = new LanguageBundle(languageConfig);
+        LanguageValidator validator = LanguageValidator.fromConfig(internalConfig, TextUtility.getSettings());
+        LanguageValidationReport report = validator.validate(LanguageBundle.GLOBAL, bundle);
+        report.log(getLogger());
+        
+        if (report.hasErrors()) {
+            return false;
+        }
+        
+        // Locale bundles are compiled against the same settings, so they are dropped and loaded again on demand
+        languageBundle = bundle;
+        languageManager = LanguageManager.fromConfig(this, internalConfig, bundle, validator);
+        return true;
+    }
+    
+    /**
+     * Apply the text caching and messaging settings from the internal configuration
+     */
+    private void configureTextUtility() {
+        TextUtility.configureParseCache(
+            internalConfig.getBoolean("cache.parse.enabled", true),
+            internalConfig.getInt("cache.parse.max_size", 1024),
+            internalConfig.getLong("cache.parse.expire_after", 600L)
+        );
+        TextUtility.configureTemplateCache(internalConfig.getInt("cache.templates.max_size", 512));
+        TextUtility.configureItemCache(
+            internalConfig.getInt("cache.items.max_size", 2048),
+            internalConfig.getLong("cache.items.max_bytes", 4194304L)
+        );
+        TextUtility.configureAsyncMessaging(
+            internalConfig.getBoolean("messaging.async.enabled", false),
+            internalConfig.getInt("messaging.async.queue_capacity", 4096),
+            internalConfig.getLong("messaging.async.flush_budget_micros", 2000L)
+        );
+        TextUtility.configureMessageCoalescing(
+            internalConfig.getBoolean("messaging.coalesce.enabled", false),
+            internalConfig.getInt("messaging.coalesce.window_ticks", 1),
+            internalConfig.getBoolean("messaging.coalesce.merge", true),
+            internalConfig.getString("messaging.coalesce.merge_suffix", " <dark_grey>(x{count})</dark_grey>"),
+            internalConfig.getInt("messaging.coalesce.max_tracked", 16)
+        );
+        TextUtility.configureDisplay(internalConfig.getInt("messaging.display.action_bar_refresh_ticks", 40));
+        TextUtility.configureConsoleWriter(
+            internalConfig.getBoolean("messaging.console.enabled", false),
+            internalConfig.getInt("messaging.console.queue_capacity", 1024),
+            ConsoleWriter.OverflowPolicy.fromString(internalConfig.getString("messaging.console.overflow", "drop")),
+            internalConfig.getLong("messaging.console.block_timeout_millis", 50L)
+        );
+    }
+    
     /**
      * Load the internal framework configuration
      */
@@ -314,6 +574,22 @@ public class CoreFramework extends JavaPlugin implements Listener {
         return languageConfig;
     }
     
+    /**
+     * Get the compiled language lines
+     * @return The language bundle
+     */
+    public LanguageBundle getLanguageBundle() {
+        return languageBundle;
+    }
+    
+    /**
+     * Get the per-locale language manager
+     * @return The language manager, or null if the language failed validation
+     */
+    public LanguageManager getLanguageManager() {
+        return languageManager;
+    }
+    
     /**
      * Get the core registry
      * @return The core registry
@@ -330,6 +606,22 @@ public class CoreFramework extends JavaPlugin implements Listener {
         return coreBootstrap;
     }
     
+    /**
+     * Get the index of installed plugins
+     * @return The plugin index
+     */
+    public PluginIndex getPluginIndex() {
+        return pluginIndex;
+    }
+    
+    /**
+     * Get the report of the startup display
+     * @return The startup report
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+    
     /**
      * Get the output cache
      * @return The output cache
@@ -3,6 +3,8 @@ package io.rhythmknights.coreframework.component.api;
 import io.rhythmknights.coreframework.CoreFramework;
 import io.rhythmknights.coreframework.component.api.hook.HookRequirement;
 import io.rhythmknights.coreframework.component.api.plugin.RegisteredPlugin;
+import io.rhythmknights.coreframework.component.utility.CacheStatistics;
+import io.rhythmknights.coreframework.component.utility.TextUtility;
 import org.bukkit.plugin.Plugin;
 
 import java.util.List;
@@ -62,6 +64,26 @@ public class FrameworkAPI {
         return framework.getDescription().getVersion();
     }
     
+    /**
+     * Get the statistics of the shared message parse cache
+     * Useful for checking how much of the message traffic is served without parsing
+     * 
+     * @return Hit, miss and eviction counters of the parse cache
+     */
+    public CacheStatistics getParseCacheStatistics() {
+        return TextUtility.getParseCacheStatistics();
+    }
+    
+    /**
+     * Reload the framework configuration and language files
+     * Formatting settings are swapped atomically and cached messages are dropped
+     * 
+     * @return True if the reload succeeded
+     */
+    public boolean reload() {
+        return framework.reloadFramework();
+    }
+    
     /**
      * Check if a specific CoreAPI version is compatible
      * 
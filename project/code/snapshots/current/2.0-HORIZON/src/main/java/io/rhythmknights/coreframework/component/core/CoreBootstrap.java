@@ -2,12 +2,13 @@ package io.rhythmknights.coreframework.component.core;
 
 import io.rhythmknights.coreframework.CoreFramework;
 import io.rhythmknights.coreframework.component.api.plugin.RegisteredPlugin;
+import io.rhythmknights.coreframework.component.utility.RenderWorkers;
 import io.rhythmknights.coreframework.component.utility.TextUtility;
-import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controls the startup display and plugin initialization process
@@ -16,7 +17,6 @@ public class CoreBootstrap {
     
     private final CoreFramework framework;
     private final YamlConfiguration config;
-    private final YamlConfiguration lang;
     private final OutputCache outputCache;
     
     /**
@@ -28,7 +28,6 @@ public class CoreBootstrap {
     public CoreBootstrap(CoreFramework framework, OutputCache outputCache) {
         this.framework = framework;
         this.config = framework.getInternalConfig();
-        this.lang = framework.getLanguageConfig();
         this.outputCache = outputCache;
     }
     
@@ -40,10 +39,31 @@ public class CoreBootstrap {
     public CoreBootstrap(CoreFramework framework) {
         this.framework = framework;
         this.config = framework.getInternalConfig();
-        this.lang = framework.getLanguageConfig();
         this.outputCache = null; // No output cache in legacy mode
     }
     
+    /**
+     * Get the current compiled language lines
+     * Looked up on every use so a reload takes effect immediately
+     */
+    private LanguageBundle language() {
+        return framework.getLanguageBundle();
+    }
+    
+    /**
+     * Get the index every detection and hook check reads plugin presence from
+     */
+    private PluginIndex plugins() {
+        return framework.getPluginIndex();
+    }
+    
+    /**
+     * Get the startup report the prepared output is recorded into
+     */
+    private StartupReport report() {
+        return framework.getStartupReport();
+    }
+    
     /**
      * Prepare the startup header and basic info (caches without displaying)
      * This runs when CoreFramework enables but caches the output for later
@@ -53,7 +73,7 @@ public class CoreBootstrap {
         boolean headerEnabled = config.getBoolean("header.enabled", true);
         if (!headerEnabled) {
             // Skip header entirely, just show basic init
-            String initStart = lang.getString("startup.initialization_start", "");
+            String initStart = language().format("startup.initialization_start");
             outputCache.addLine(initStart);
             prepareAPIInfo();
             prepareDetectedPlugins();
@@ -68,19 +88,19 @@ public class CoreBootstrap {
 
         // Add the specified number of header lines to the cache
         for (int i = 1; i <= headerLines; i++) {
-            String headerLine = lang.getString("startup.header_line" + i, "");
+            String headerLine = language().format("startup.header_line" + i);
             if (!headerLine.isEmpty()) {
                 outputCache.addLine(headerLine);
             }
         }
 
-        String initStart = lang.getString("startup.initialization_start", "");
+        String initStart = language().format("startup.initialization_start");
         outputCache.addLine(initStart);
 
         prepareAPIInfo();
         prepareDetectedPlugins();
 
-        String separator = lang.getString("startup.separator", "");
+        String separator = language().format("startup.separator");
         outputCache.addLine(separator);
     }
     
@@ -109,7 +129,7 @@ public class CoreBootstrap {
         boolean headerEnabled = config.getBoolean("header.enabled", true);
         if (!headerEnabled) {
             // Skip header display entirely, just show basic init
-            String initStart = lang.getString("startup.initialization_start", "");
+            String initStart = language().format("startup.initialization_start");
             TextUtility.sendConsoleMessage(initStart);
             legacyDisplayAPIInfo();
             legacyDisplayDetectedPlugins();
@@ -124,19 +144,19 @@ public class CoreBootstrap {
 
         // Display the specified number of header lines
         for (int i = 1; i <= headerLines; i++) {
-            String headerLine = lang.getString("startup.header_line" + i, "");
+            String headerLine = language().format("startup.header_line" + i);
             if (!headerLine.isEmpty()) {
                 TextUtility.sendConsoleMessage(headerLine);
             }
         }
 
-        String initStart = lang.getString("startup.initialization_start", "");
+        String initStart = language().format("startup.initialization_start");
         TextUtility.sendConsoleMessage(initStart);
 
         legacyDisplayAPIInfo();
         legacyDisplayDetectedPlugins();
 
-        String separator = lang.getString("startup.separator", "");
+        String separator = language().format("startup.separator");
         TextUtility.sendConsoleMessage(separator);
     }
     
@@ -144,12 +164,11 @@ public class CoreBootstrap {
      * Prepare CoreAPI information (cache for later display)
      */
     private void prepareAPIInfo() {
-        String detectingAPI = lang.getString("startup.detecting_api", "");
+        String detectingAPI = language().format("startup.detecting_api");
         outputCache.addLine(detectingAPI);
 
         String coreAPIVersion = config.getString("coreapi.version", "unknown");
-        String apiFound = lang.getString("startup.api_found", "");
-        apiFound = TextUtility.replaceVariables(apiFound, "version", coreAPIVersion);
+        String apiFound = language().format("startup.api_found", "version", coreAPIVersion);
         outputCache.addLine(apiFound);
     }
     
@@ -157,12 +176,11 @@ public class CoreBootstrap {
      * Legacy method to display API info directly
      */
     private void legacyDisplayAPIInfo() {
-        String detectingAPI = lang.getString("startup.detecting_api", "");
+        String detectingAPI = language().format("startup.detecting_api");
         TextUtility.sendConsoleMessage(detectingAPI);
 
         String coreAPIVersion = config.getString("coreapi.version", "unknown");
-        String apiFound = lang.getString("startup.api_found", "");
-        apiFound = TextUtility.replaceVariables(apiFound, "version", coreAPIVersion);
+        String apiFound = language().format("startup.api_found", "version", coreAPIVersion);
         TextUtility.sendConsoleMessage(apiFound);
     }
     
@@ -170,19 +188,20 @@ public class CoreBootstrap {
      * Prepare detected core plugins info (cache for later display)
      */
     private void prepareDetectedPlugins() {
-        String detectingPlugins = lang.getString("startup.detecting_plugins", "");
+        String detectingPlugins = language().format("startup.detecting_plugins");
         outputCache.addLine(detectingPlugins);
 
         List<String> corePlugins = config.getStringList("detection.core_plugins");
 
         for (String pluginName : corePlugins) {
-            if (Bukkit.getPluginManager().getPlugin(pluginName) != null) {
-                String version = Bukkit.getPluginManager().getPlugin(pluginName).getDescription().getVersion();
-                String pluginDetected = lang.getString("startup.plugin_detected", "");
-                pluginDetected = TextUtility.replaceVariables(pluginDetected, 
+            PluginIndex.Entry plugin = plugins().get(pluginName);
+            if (plugin.isPresent()) {
+                String version = plugin.getVersion();
+                String pluginDetected = language().format("startup.plugin_detected",
                     "plugin", pluginName, 
                     "version", version);
                 outputCache.addLine(pluginDetected);
+                report().recordDetectedPlugin(pluginName, version);
             }
         }
     }
@@ -191,16 +210,16 @@ public class CoreBootstrap {
      * Legacy method to display detected plugins directly
      */
     private void legacyDisplayDetectedPlugins() {
-        String detectingPlugins = lang.getString("startup.detecting_plugins", "");
+        String detectingPlugins = language().format("startup.detecting_plugins");
         TextUtility.sendConsoleMessage(detectingPlugins);
 
         List<String> corePlugins = config.getStringList("detection.core_plugins");
 
         for (String pluginName : corePlugins) {
-            if (Bukkit.getPluginManager().getPlugin(pluginName) != null) {
-                String version = Bukkit.getPluginManager().getPlugin(pluginName).getDescription().getVersion();
-                String pluginDetected = lang.getString("startup.plugin_detected", "");
-                pluginDetected = TextUtility.replaceVariables(pluginDetected, 
+            PluginIndex.Entry plugin = plugins().get(pluginName);
+            if (plugin.isPresent()) {
+                String version = plugin.getVersion();
+                String pluginDetected = language().format("startup.plugin_detected",
                     "plugin", pluginName, 
                     "version", version);
                 TextUtility.sendConsoleMessage(pluginDetected);
@@ -214,32 +233,85 @@ public class CoreBootstrap {
      * @param registeredPlugin The registered plugin to prepare hook status for
      */
     public void preparePluginHookStatus(RegisteredPlugin registeredPlugin) {
-        String separator = lang.getString("startup.separator", "");
-        outputCache.addLine(separator);
+        report().recordPlugin(registeredPlugin);
+        outputCache.addSection(prepareTimedSection(registeredPlugin));
+    }
+    
+    /**
+     * Prepare the hook status of several plugins (cache for later display)
+     * Each plugin's section, including its hook checks and rendering, is prepared on the render workers
+     * when there are enough plugins and more than one processor; the sections are always added to the cache in list order
+     * 
+     * @param registeredPlugins The registered plugins, in display order
+     */
+    public void preparePluginHookStatuses(List<RegisteredPlugin> registeredPlugins) {
+        boolean parallel = config.getBoolean("output.parallel.enabled", true)
+            && registeredPlugins.size() >= config.getInt("output.parallel.min_plugins", 8)
+            && Runtime.getRuntime().availableProcessors() > 1;
+        
+        // Add the plugins to the report up front so it lists them in display order
+        for (RegisteredPlugin registeredPlugin : registeredPlugins) {
+            report().recordPlugin(registeredPlugin);
+        }
+        
+        List<CompletableFuture<OutputSection>> sections = new ArrayList<>(registeredPlugins.size());
+        for (RegisteredPlugin registeredPlugin : registeredPlugins) {
+            sections.add(parallel
+                ? CompletableFuture.supplyAsync(() -> prepareTimedSection(registeredPlugin), RenderWorkers.executor())
+                : CompletableFuture.completedFuture(prepareTimedSection(registeredPlugin)));
+        }
+        
+        // Merge in list order, whichever section finished first
+        for (CompletableFuture<OutputSection> section : sections) {
+            outputCache.addSection(section.join());
+        }
+    }
+    
+    /**
+     * Prepare a plugin's section and its rendered lines, recording how long it took
+     */
+    private OutputSection prepareTimedSection(RegisteredPlugin registeredPlugin) {
+        long start = System.nanoTime();
+        OutputSection section = preparePluginSection(registeredPlugin);
+        TextUtility.prerender(section.getLines());
+        report().recordPluginTiming(registeredPlugin, System.nanoTime() - start);
+        return section;
+    }
+    
+    /**
+     * Prepare the hook status lines of a specific plugin as a section
+     * 
+     * @param registeredPlugin The registered plugin to prepare hook status for
+     * @return The prepared section, named after the plugin
+     */
+    public OutputSection preparePluginSection(RegisteredPlugin registeredPlugin) {
+        OutputSection section = new OutputSection(registeredPlugin.getName());
+        
+        String separator = language().format("startup.separator");
+        section.addLine(separator);
         
         // Hooks header
-        String hooksHeader = lang.getString("plugin_hooks.hooks_header", "");
-        outputCache.addLine(hooksHeader);
+        String hooksHeader = language().format("plugin_hooks.hooks_header");
+        section.addLine(hooksHeader);
         
         // Plugin header
-        String pluginHeader = lang.getString("plugin_hooks.header", "");
-        pluginHeader = TextUtility.replaceVariables(pluginHeader,
+        String pluginHeader = language().format("plugin_hooks.header",
             "plugin", registeredPlugin.getName(),
             "version", registeredPlugin.getVersion(),
             "codename", registeredPlugin.getCodename());
-        outputCache.addLine(pluginHeader);
+        section.addLine(pluginHeader);
         
         // Prepare required hooks
         boolean hasRequired = registeredPlugin.getHookRequirements().stream()
             .anyMatch(hr -> hr.isRequired());
         
         if (hasRequired) {
-            String requiredHeader = lang.getString("plugin_hooks.required_header", "");
-            outputCache.addLine(requiredHeader);
+            String requiredHeader = language().format("plugin_hooks.required_header");
+            section.addLine(requiredHeader);
             
             registeredPlugin.getHookRequirements().stream()
                 .filter(hr -> hr.isRequired())
-                .forEach(this::prepareHookStatus);
+                .forEach(hr -> prepareHookStatus(section, registeredPlugin, hr));
         }
         
         // Prepare optional hooks
@@ -247,13 +319,15 @@ public class CoreBootstrap {
             .anyMatch(hr -> !hr.isRequired());
         
         if (hasOptional) {
-            String optionalHeader = lang.getString("plugin_hooks.optional_header", "");
-            outputCache.addLine(optionalHeader);
+            String optionalHeader = language().format("plugin_hooks.optional_header");
+            section.addLine(optionalHeader);
             
             registeredPlugin.getHookRequirements().stream()
                 .filter(hr -> !hr.isRequired())
-                .forEach(this::prepareHookStatus);
+                .forEach(hr -> prepareHookStatus(section, registeredPlugin, hr));
         }
+        
+        return section;
     }
     
     /**
@@ -279,16 +353,15 @@ public class CoreBootstrap {
      * Directly outputs to console without caching
      */
     private void legacyDisplayPluginHookStatus(RegisteredPlugin registeredPlugin) {
-        String separator = lang.getString("startup.separator", "");
+        String separator = language().format("startup.separator");
         TextUtility.sendConsoleMessage(separator);
       
         // Hooks header
-        String hooksHeader = lang.getString("plugin_hooks.hooks_header", "");
+        String hooksHeader = language().format("plugin_hooks.hooks_header");
         TextUtility.sendConsoleMessage(hooksHeader);
         
         // Plugin header
-        String pluginHeader = lang.getString("plugin_hooks.header", "");
-        pluginHeader = TextUtility.replaceVariables(pluginHeader,
+        String pluginHeader = language().format("plugin_hooks.header",
             "plugin", registeredPlugin.getName(),
             "version", registeredPlugin.getVersion(),
             "codename", registeredPlugin.getCodename());
@@ -299,7 +372,7 @@ public class CoreBootstrap {
             .anyMatch(hr -> hr.isRequired());
         
         if (hasRequired) {
-            String requiredHeader = lang.getString("plugin_hooks.required_header", "");
+            String requiredHeader = language().format("plugin_hooks.required_header");
             TextUtility.sendConsoleMessage(requiredHeader);
             
             registeredPlugin.getHookRequirements().stream()
@@ -312,7 +385,7 @@ public class CoreBootstrap {
             .anyMatch(hr -> !hr.isRequired());
         
         if (hasOptional) {
-            String optionalHeader = lang.getString("plugin_hooks.optional_header", "");
+            String optionalHeader = language().format("plugin_hooks.optional_header");
             TextUtility.sendConsoleMessage(optionalHeader);
             
             registeredPlugin.getHookRequirements().stream()
@@ -324,36 +397,23 @@ public class CoreBootstrap {
     /**
      * Prepare individual hook status (cache for later display)
      */
-    private void prepareHookStatus(io.rhythmknights.coreframework.component.api.hook.HookRequirement hookRequirement) {
-        boolean isAvailable = Bukkit.getPluginManager().getPlugin(hookRequirement.getPluginName()) != null;
-        
-        String messageTemplate;
-        if (isAvailable) {
-            messageTemplate = lang.getString("plugin_hooks.hook_success", "");
-        } else {
-            messageTemplate = lang.getString("plugin_hooks.hook_failed", "");
-        }
+    private void prepareHookStatus(OutputSection section, RegisteredPlugin registeredPlugin, io.rhythmknights.coreframework.component.api.hook.HookRequirement hookRequirement) {
+        boolean isAvailable = plugins().isPresent(hookRequirement.getPluginName());
         
-        String message = TextUtility.replaceVariables(messageTemplate, 
-            "plugin", hookRequirement.getPluginName());
-        outputCache.addLine(message);
+        String key = isAvailable ? "plugin_hooks.hook_success" : "plugin_hooks.hook_failed";
+        String message = language().format(key, "plugin", hookRequirement.getPluginName());
+        section.addLine(message);
+        report().recordHook(registeredPlugin, hookRequirement.getPluginName(), hookRequirement.isRequired(), isAvailable);
     }
     
     /**
      * Legacy method to display hook status directly
      */
     private void legacyDisplayHookStatus(io.rhythmknights.coreframework.component.api.hook.HookRequirement hookRequirement) {
-        boolean isAvailable = Bukkit.getPluginManager().getPlugin(hookRequirement.getPluginName()) != null;
-        
-        String messageTemplate;
-        if (isAvailable) {
-            messageTemplate = lang.getString("plugin_hooks.hook_success", "");
-        } else {
-            messageTemplate = lang.getString("plugin_hooks.hook_failed", "");
-        }
+        boolean isAvailable = plugins().isPresent(hookRequirement.getPluginName());
         
-        String message = TextUtility.replaceVariables(messageTemplate, 
-            "plugin", hookRequirement.getPluginName());
+        String key = isAvailable ? "plugin_hooks.hook_success" : "plugin_hooks.hook_failed";
+        String message = language().format(key, "plugin", hookRequirement.getPluginName());
         TextUtility.sendConsoleMessage(message);
     }
     
@@ -361,30 +421,28 @@ public class CoreBootstrap {
      * Prepare activation summary (cache for later display)
      */
     public void prepareActivationSummary(List<String> successfulPlugins, List<String> failedPlugins) {
-        String separator = lang.getString("startup.separator", "");
+        String separator = language().format("startup.separator");
         outputCache.addLine(separator);
         outputCache.addLine(separator);
 
-        String activationHeader = lang.getString("activation.header", "");
+        String activationHeader = language().format("activation.header");
         outputCache.addLine(activationHeader);
         
         if (!successfulPlugins.isEmpty()) {
-            String successMessage = lang.getString("activation.success", "");
+            String successMessage = language().format("activation.success");
             outputCache.addLine(successMessage);
             
             String pluginList = String.join(" - ", successfulPlugins);
-            String pluginListMessage = lang.getString("activation.plugin_list", "");
-            pluginListMessage = TextUtility.replaceVariables(pluginListMessage, "plugins", pluginList);
+            String pluginListMessage = language().format("activation.plugin_list", "plugins", pluginList);
             outputCache.addLine(pluginListMessage);
         }
         
         if (!failedPlugins.isEmpty()) {
-            String failedMessage = lang.getString("activation.failed", "");
+            String failedMessage = language().format("activation.failed");
             outputCache.addLine(failedMessage);
             
             String failedPluginList = String.join(" - ", failedPlugins);
-            String failedListMessage = lang.getString("activation.failed_plugin_list", "");
-            failedListMessage = TextUtility.replaceVariables(failedListMessage, "plugins", failedPluginList);
+            String failedListMessage = language().format("activation.failed_plugin_list", "plugins", failedPluginList);
             outputCache.addLine(failedListMessage);
         }
         
@@ -412,29 +470,27 @@ public class CoreBootstrap {
      * Directly outputs to console without caching
      */
     private void legacyDisplayActivationSummary(List<String> successfulPlugins, List<String> failedPlugins) {
-        String separator = lang.getString("startup.separator", "");
+        String separator = language().format("startup.separator");
         TextUtility.sendConsoleMessage(separator);
 
-        String activationHeader = lang.getString("activation.header", "");
+        String activationHeader = language().format("activation.header");
         TextUtility.sendConsoleMessage(activationHeader);
         
         if (!successfulPlugins.isEmpty()) {
-            String successMessage = lang.getString("activation.success", "");
+            String successMessage = language().format("activation.success");
             TextUtility.sendConsoleMessage(successMessage);
             
             String pluginList = String.join(" - ", successfulPlugins);
-            String pluginListMessage = lang.getString("activation.plugin_list", "");
-            pluginListMessage = TextUtility.replaceVariables(pluginListMessage, "plugins", pluginList);
+            String pluginListMessage = language().format("activation.plugin_list", "plugins", pluginList);
             TextUtility.sendConsoleMessage(pluginListMessage);
         }
         
         if (!failedPlugins.isEmpty()) {
-            String failedMessage = lang.getString("activation.failed", "");
+            String failedMessage = language().format("activation.failed");
             TextUtility.sendConsoleMessage(failedMessage);
             
             String failedPluginList = String.join(" - ", failedPlugins);
-            String failedListMessage = lang.getString("activation.failed_plugin_list", "");
-            failedListMessage = TextUtility.replaceVariables(failedListMessage, "plugins", failedPluginList);
+            String failedListMessage = language().format("activation.failed_plugin_list", "plugins", failedPluginList);
             TextUtility.sendConsoleMessage(failedListMessage);
         }
         
@@ -445,7 +501,7 @@ public class CoreBootstrap {
      * Display shutdown message
      */
     public void displayShutdownMessage() {
-        String shutdownMessage = lang.getString("shutdown.message", "CoreFramework disabled.");
+        String shutdownMessage = language().formatOrDefault("shutdown.message", "CoreFramework disabled.");
         TextUtility.sendConsoleMessage(shutdownMessage);
     }
 }
\ No newline at end of file
@@ -8,14 +8,18 @@ import org.bukkit.plugin.Plugin;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages registered plugins and their information
+ * Plugins are listed in the order they first registered; registering again replaces the plugin's
+ * information but keeps its position
  */
 public class CoreRegistry {
     
     private final CoreFramework framework;
     private final ConcurrentHashMap<String, RegisteredPlugin> registeredPlugins;
+    private final CopyOnWriteArrayList<String> registrationOrder;
     
     /**
      * Constructor for CoreRegistry
@@ -25,6 +29,7 @@ public class CoreRegistry {
     public CoreRegistry(CoreFramework framework) {
         this.framework = framework;
         this.registeredPlugins = new ConcurrentHashMap<>();
+        this.registrationOrder = new CopyOnWriteArrayList<>();
     }
     
     /**
@@ -39,6 +44,7 @@ public class CoreRegistry {
     public RegisteredPlugin registerPlugin(Plugin plugin, String version, String codename, List<HookRequirement> hookRequirements) {
         RegisteredPlugin registered = new RegisteredPlugin(plugin, version, codename, hookRequirements);
         registeredPlugins.put(plugin.getName(), registered);
+        registrationOrder.addIfAbsent(plugin.getName());
         
         // framework.getLogger().info("Registered plugin: " + plugin.getName() + " v" + version + " [" + codename + "]"); - STARTUP LOGGER
         
@@ -48,10 +54,17 @@ public class CoreRegistry {
     /**
      * Get all registered plugins
      * 
-     * @return List of all registered plugins
+     * @return List of all registered plugins, in registration order
      */
     public List<RegisteredPlugin> getRegisteredPlugins() {
-        return new ArrayList<>(registeredPlugins.values());
+        List<RegisteredPlugin> plugins = new ArrayList<>(registrationOrder.size());
+        for (String name : registrationOrder) {
+            RegisteredPlugin registered = registeredPlugins.get(name);
+            if (registered != null) {
+                plugins.add(registered);
+            }
+        }
+        return plugins;
     }
     
     /**
@@ -0,0 +1,164 @@
+package io.rhythmknights.coreframework.component.core;
+
+import io.rhythmknights.coreframework.component.utility.BoundedCache;
+import io.rhythmknights.coreframework.component.utility.CompiledLine;
+import io.rhythmknights.coreframework.component.utility.RenderedMessage;
+import io.rhythmknights.coreframework.component.utility.TextUtility;
+import net.kyori.adventure.text.Component;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The language file compiled into ready-to-send lines
+ * Every line is compiled once when the language is loaded, with {prefix} and {scaled.separator}
+ * already resolved against the current formatting settings. The bundle is rebuilt on reload.
+ *
+ * A locale bundle only compiles its own lines and shares the compiled lines of its fallback for
+ * every key it does not define. Each bundle renders through its own cache, so one locale never
+ * evicts the rendered messages of another.
+ */
+public class LanguageBundle {
+
+    /**
+     * The locale name of the default language file
+     */
+    public static final String GLOBAL = "global";
+
+    private static final CompiledLine EMPTY_LINE = CompiledLine.compile("");
+    private static final int DEFAULT_RENDER_CACHE_SIZE = 256;
+
+    private final String locale;
+    private final YamlConfiguration config;
+    private final Map<String, CompiledLine> lines;
+    private final BoundedCache<String, RenderedMessage> renderCache;
+
+    /**
+     * Compile all lines of a language configuration
+     * Must be created after the formatting settings have been applied
+     *
+     * @param config The language configuration
+     */
+    public LanguageBundle(YamlConfiguration config) {
+        this(GLOBAL, config, null, DEFAULT_RENDER_CACHE_SIZE);
+    }
+
+    /**
+     * Compile the lines of a locale, falling back to another bundle for missing keys
+     * Must be created after the formatting settings have been applied
+     *
+     * @param locale The locale name, e.g. "en_us"
+     * @param config The language configuration of the locale
+     * @param fallback The bundle used for keys the locale does not define, or null
+     * @param renderCacheSize The maximum number of rendered messages cached for this bundle
+     */
+    public LanguageBundle(String locale, YamlConfiguration config, LanguageBundle fallback, int renderCacheSize) {
+        this.locale = locale;
+        this.config = config;
+
+        Map<String, CompiledLine> compiled = fallback != null ? new HashMap<>(fallback.lines) : new HashMap<>();
+        for (String key : config.getKeys(true)) {
+            if (config.isString(key)) {
+                compiled.put(key, CompiledLine.compile(config.getString(key)));
+            }
+        }
+        this.lines = Collections.unmodifiableMap(compiled);
+        this.renderCache = new BoundedCache<>(renderCacheSize, 0L);
+    }
+
+    /**
+     * Get a line ready to be sent
+     *
+     * @param key The language key
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The processed line, or an empty string if the key does not exist
+     */
+    public String format(String key, String... replacements) {
+        return getLine(key).render(replacements);
+    }
+
+    /**
+     * Get a line ready to be sent, falling back to a default text when the key does not exist
+     *
+     * @param key The language key
+     * @param def The text used when the key does not exist
+     * @return The processed line
+     */
+    public String formatOrDefault(String key, String def) {
+        CompiledLine line = lines.get(key);
+        return line != null ? line.render() : def;
+    }
+
+    /**
+     * Get the rendered forms of a line through this bundle's render cache
+     * The line is processed like any other message before it is parsed
+     *
+     * @param key The language key
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The rendered message
+     */
+    public RenderedMessage render(String key, String... replacements) {
+        return renderCache.get(format(key, replacements), line -> RenderedMessage.of(TextUtility.processMessage(line)));
+    }
+
+    /**
+     * Get a line as a component through this bundle's render cache
+     *
+     * @param key The language key
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The parsed component with proper defaults
+     */
+    public Component component(String key, String... replacements) {
+        return render(key, replacements).component();
+    }
+
+    /**
+     * Get the compiled form of a line
+     *
+     * @param key The language key
+     * @return The compiled line, or an empty line if the key does not exist
+     */
+    public CompiledLine getLine(String key) {
+        CompiledLine line = lines.get(key);
+        return line != null ? line : EMPTY_LINE;
+    }
+
+    /**
+     * Check whether the language defines a line
+     *
+     * @param key The language key
+     * @return True if the key exists
+     */
+    public boolean contains(String key) {
+        return lines.containsKey(key);
+    }
+
+    /**
+     * Get all compiled lines by key, including the lines shared from the fallback
+     *
+     * @return An unmodifiable map of compiled lines
+     */
+    public Map<String, CompiledLine> getLines() {
+        return lines;
+    }
+
+    /**
+     * Get the locale of this bundle
+     *
+     * @return The locale name, "global" for the default language
+     */
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get the language configuration this bundle was compiled from
+     *
+     * @return The language configuration
+     */
+    public YamlConfiguration getConfig() {
+        return config;
+    }
+}
\ No newline at end of file
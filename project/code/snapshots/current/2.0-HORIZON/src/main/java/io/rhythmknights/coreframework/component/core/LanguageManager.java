@@ -0,0 +1,297 @@
+package io.rhythmknights.coreframework.component.core;
+
+import io.rhythmknights.coreframework.component.utility.TextUtility;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the language bundle for each player locale
+ * Locale bundles (lang/&lt;locale&gt;.yml) are loaded the first time a player with that locale needs one,
+ * from the data folder first and the plugin jar second. A regional locale (en_gb) falls back to its
+ * language (en), which falls back to global.yml. Locales without a valid file resolve to their fallback,
+ * and that answer is remembered apart from the loaded locales, so the disk is only probed once per locale
+ * and only locales with their own bundle count toward the locale limit.
+ *
+ * A player's locale is looked up once per session and kept until they quit or change it.
+ */
+public class LanguageManager {
+
+    // Client-provided locale names are only used as file names when they look like a locale
+    private static final Pattern LOCALE_PATTERN = Pattern.compile("[a-z]{2,3}(_[a-z0-9]{2,8})?");
+
+    // Locales without a bundle are cheap to probe again, so their answers are simply dropped past this many
+    private static final int MAX_FALLBACKS = 1024;
+
+    private final JavaPlugin plugin;
+    private final LanguageBundle global;
+    private final LanguageValidator validator;
+    private final boolean perLocale;
+    private final int maxLocales;
+    private final int renderCacheSize;
+
+    private final Map<String, LanguageBundle> bundles;
+    private final Map<String, LanguageBundle> fallbacks;
+    private final Map<UUID, String> playerLocales;
+    private final AtomicBoolean limitReported;
+
+    /**
+     * Create a new language manager
+     * Must be created after the formatting settings have been applied
+     *
+     * @param plugin The plugin the locale files belong to
+     * @param global The validated global bundle
+     * @param validator The validator every locale bundle must pass
+     * @param perLocale Whether locale bundles are used at all
+     * @param maxLocales The maximum number of distinct locales kept loaded
+     * @param renderCacheSize The rendered message cache size of each locale bundle
+     */
+    public LanguageManager(JavaPlugin plugin, LanguageBundle global, LanguageValidator validator,
+                           boolean perLocale, int maxLocales, int renderCacheSize) {
+        this.plugin = plugin;
+        this.global = global;
+        this.validator = validator;
+        this.perLocale = perLocale;
+        this.maxLocales = Math.max(1, maxLocales);
+        this.renderCacheSize = Math.max(1, renderCacheSize);
+        this.bundles = new ConcurrentHashMap<>();
+        this.fallbacks = new ConcurrentHashMap<>();
+        this.playerLocales = new ConcurrentHashMap<>();
+        this.limitReported = new AtomicBoolean();
+    }
+
+    /**
+     * Create a language manager from the internal configuration
+     *
+     * @param plugin The plugin the locale files belong to
+     * @param internalConfig The internal framework configuration
+     * @param global The validated global bundle
+     * @param validator The validator every locale bundle must pass
+     * @return The language manager
+     */
+    public static LanguageManager fromConfig(JavaPlugin plugin, YamlConfiguration internalConfig,
+                                             LanguageBundle global, LanguageValidator validator) {
+        return new LanguageManager(
+            plugin,
+            global,
+            validator,
+            internalConfig.getBoolean("language.per_locale", true),
+            internalConfig.getInt("language.max_locales", 32),
+            internalConfig.getInt("language.cache_size", 256)
+        );
+    }
+
+    /**
+     * Get the bundle used for a player
+     *
+     * @param player The player
+     * @return The player's locale bundle, or the global bundle
+     */
+    public LanguageBundle getBundle(Player player) {
+        return getBundle(getLocale(player));
+    }
+
+    /**
+     * Get the bundle for a locale, loading it on first use
+     *
+     * @param locale The locale, e.g. "en_US" or "de-de"
+     * @return The locale bundle, or the global bundle if the locale has no valid file
+     */
+    public LanguageBundle getBundle(String locale) {
+        String normalized = normalize(locale);
+        if (!perLocale || normalized.equals(LanguageBundle.GLOBAL)) {
+            return global;
+        }
+
+        LanguageBundle bundle = bundles.get(normalized);
+        if (bundle == null) {
+            bundle = fallbacks.get(normalized);
+        }
+        if (bundle != null) {
+            return bundle;
+        }
+
+        // Loaded outside the map so a slow file read never blocks lookups of other locales
+        bundle = load(normalized);
+        if (bundle == null) {
+            bundle = fallback(normalized);
+            if (fallbacks.size() >= MAX_FALLBACKS) {
+                fallbacks.clear();
+            }
+            LanguageBundle existing = fallbacks.putIfAbsent(normalized, bundle);
+            return existing != null ? existing : bundle;
+        }
+
+        LanguageBundle existing = bundles.putIfAbsent(normalized, bundle);
+        return existing != null ? existing : bundle;
+    }
+
+    /**
+     * Get the global bundle
+     *
+     * @return The global bundle
+     */
+    public LanguageBundle getGlobalBundle() {
+        return global;
+    }
+
+    /**
+     * Get a player's locale, reading it from the client only once per session
+     *
+     * @param player The player
+     * @return The normalized locale
+     */
+    public String getLocale(Player player) {
+        return playerLocales.computeIfAbsent(player.getUniqueId(), id -> normalize(player.getLocale()));
+    }
+
+    /**
+     * Remember a new locale for a player, e.g. after they changed their client language
+     *
+     * @param player The player
+     * @param locale The new locale
+     */
+    public void updateLocale(Player player, String locale) {
+        playerLocales.put(player.getUniqueId(), normalize(locale));
+    }
+
+    /**
+     * Forget a player's locale, e.g. when they leave the server
+     *
+     * @param playerId The player's UUID
+     */
+    public void release(UUID playerId) {
+        playerLocales.remove(playerId);
+    }
+
+    /**
+     * Get a line in a player's language, ready to be sent
+     *
+     * @param player The player
+     * @param key The language key
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The processed line, or an empty string if the key does not exist
+     */
+    public String format(Player player, String key, String... replacements) {
+        return getBundle(player).format(key, replacements);
+    }
+
+    /**
+     * Send a line to a player in their language
+     * The line is rendered through the locale bundle's own cache
+     *
+     * @param player The receiving player
+     * @param key The language key
+     * @param replacements Variable replacements (key-value pairs)
+     */
+    public void send(Player player, String key, String... replacements) {
+        TextUtility.sendPlayerMessage(player, getBundle(player).component(key, replacements));
+    }
+
+    /**
+     * Get the number of loaded locales, not counting locales that resolved to a fallback
+     *
+     * @return The loaded locale count
+     */
+    public int getLoadedCount() {
+        return bundles.size();
+    }
+
+    /**
+     * Get the number of players with a cached locale
+     *
+     * @return The tracked player count
+     */
+    public int getTrackedCount() {
+        return playerLocales.size();
+    }
+
+    /**
+     * Load and validate the bundle of a locale
+     *
+     * @return The bundle, or null if the locale has no valid file or the locale limit is reached
+     */
+    private LanguageBundle load(String locale) {
+        YamlConfiguration config = readConfig(locale);
+        if (config == null) {
+            return null;
+        }
+
+        LanguageBundle fallback = fallback(locale);
+        if (bundles.size() >= maxLocales) {
+            if (limitReported.compareAndSet(false, true)) {
+                plugin.getLogger().warning("The limit of " + maxLocales + " loaded languages (language.max_locales) is reached, '"
+                    + locale + "' and any further languages use their fallback language until the next reload.");
+            }
+            return null;
+        }
+
+        LanguageBundle bundle = new LanguageBundle(locale, config, fallback, renderCacheSize);
+        LanguageValidationReport report = validator.validate(locale, bundle);
+        report.log(plugin.getLogger());
+        if (report.hasErrors()) {
+            plugin.getLogger().warning("Language '" + locale + "' failed validation, using '" + fallback.getLocale() + "' instead.");
+            return null;
+        }
+        return bundle;
+    }
+
+    /**
+     * Get the bundle a locale falls back to: its language for a regional locale, the global bundle otherwise
+     */
+    private LanguageBundle fallback(String locale) {
+        int separator = locale.indexOf('_');
+        return separator > 0 ? getBundle(locale.substring(0, separator)) : global;
+    }
+
+    /**
+     * Read lang/&lt;locale&gt;.yml from the data folder, or from the plugin jar
+     *
+     * @return The configuration, or null if the locale has no file
+     */
+    private YamlConfiguration readConfig(String locale) {
+        String path = "lang/" + locale + ".yml";
+
+        File file = new File(plugin.getDataFolder(), path);
+        if (file.isFile()) {
+            return YamlConfiguration.loadConfiguration(file);
+        }
+
+        InputStream resource = plugin.getResource(path);
+        if (resource == null) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(resource, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load language file " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Normalize a locale to the file name form: lower case with underscores
+     *
+     * @return The normalized locale, or "global" if it does not look like a locale
+     */
+    static String normalize(String locale) {
+        if (locale == null) {
+            return LanguageBundle.GLOBAL;
+        }
+        String normalized = locale.trim().toLowerCase(Locale.ROOT).replace('-', '_');
+        return LOCALE_PATTERN.matcher(normalized).matches() ? normalized : LanguageBundle.GLOBAL;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package io.rhythmknights.coreframework.component.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Result of validating the scaled lines of a language against the configured line length
+ * Errors are lines whose static content alone does not fit, warnings are lines that only
+ * overflow with worst-case placeholder values and fall back to the minimum padding.
+ */
+public final class LanguageValidationReport {
+
+    /**
+     * How serious a validation issue is
+     */
+    public enum Severity {
+        /**
+         * The line can never fit, the language is rejected
+         */
+        ERROR,
+
+        /**
+         * The line may overflow with long values and is clamped to the minimum padding
+         */
+        WARNING
+    }
+
+    private final String language;
+    private final int lineLength;
+    private final int minPadding;
+    private final int checkedCount;
+    private final List<Issue> issues;
+
+    /**
+     * Create a new validation report
+     *
+     * @param language The language name
+     * @param lineLength The configured line length
+     * @param minPadding The configured minimum padding
+     * @param checkedCount The number of scaled lines that were checked
+     * @param issues The issues found
+     */
+    public LanguageValidationReport(String language, int lineLength, int minPadding, int checkedCount, List<Issue> issues) {
+        this.language = language;
+        this.lineLength = lineLength;
+        this.minPadding = minPadding;
+        this.checkedCount = checkedCount;
+        this.issues = Collections.unmodifiableList(issues);
+    }
+
+    /**
+     * Check if the language has lines that can never fit
+     * @return True if there are errors
+     */
+    public boolean hasErrors() {
+        return issues.stream().anyMatch(issue -> issue.getSeverity() == Severity.ERROR);
+    }
+
+    /**
+     * Get all issues, in key order
+     * @return The issues
+     */
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    /**
+     * Get the issues of one severity
+     * @param severity The severity
+     * @return The matching issues
+     */
+    public List<Issue> getIssues(Severity severity) {
+        return issues.stream().filter(issue -> issue.getSeverity() == severity).toList();
+    }
+
+    /**
+     * Get the language name
+     * @return The language name
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Get the number of scaled lines that were checked
+     * @return The checked line count
+     */
+    public int getCheckedCount() {
+        return checkedCount;
+    }
+
+    /**
+     * Write the report to a logger
+     * Logs a single summary line, followed by one line per issue
+     *
+     * @param logger The logger
+     */
+    public void log(Logger logger) {
+        int errors = getIssues(Severity.ERROR).size();
+        int warnings = issues.size() - errors;
+        Level level = errors > 0 ? Level.SEVERE : warnings > 0 ? Level.WARNING : Level.INFO;
+
+        logger.log(level, String.format(
+            "Language '%s' validated: %d scaled lines, %d errors, %d warnings (line_length: %d, min_padding: %d)",
+            language, checkedCount, errors, warnings, lineLength, minPadding
+        ));
+
+        for (Issue issue : issues) {
+            logger.log(issue.getSeverity() == Severity.ERROR ? Level.SEVERE : Level.WARNING, "  " + issue);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LanguageValidationReport[language=" + language + ", checked=" + checkedCount + ", issues=" + issues + "]";
+    }
+
+    /**
+     * A single line that does not fit the configured line length
+     */
+    public static final class Issue {
+        private final String key;
+        private final Severity severity;
+        private final int width;
+        private final int availableWidth;
+
+        /**
+         * Create a new issue
+         *
+         * @param key The language key
+         * @param severity The severity
+         * @param width The static width for errors, the worst-case width for warnings
+         * @param availableWidth The widest content that still leaves the minimum padding
+         */
+        public Issue(String key, Severity severity, int width, int availableWidth) {
+            this.key = key;
+            this.severity = severity;
+            this.width = width;
+            this.availableWidth = availableWidth;
+        }
+
+        /**
+         * Get the language key
+         * @return The key
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Get the severity
+         * @return The severity
+         */
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        /**
+         * Get the measured content width
+         * @return The static width for errors, the worst-case width for warnings
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Get the widest content that still leaves the minimum padding
+         * @return The available width
+         */
+        public int getAvailableWidth() {
+            return availableWidth;
+        }
+
+        @Override
+        public String toString() {
+            String measured = severity == Severity.ERROR ? "static content" : "worst-case content";
+            return String.format("[%s] %s: %s is %d wide, %d fits (over by %d)",
+                severity, key, measured, width, availableWidth, width - availableWidth);
+        }
+    }
+}
\ No newline at end of file
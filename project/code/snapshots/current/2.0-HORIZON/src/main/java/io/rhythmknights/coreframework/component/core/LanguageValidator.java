@@ -0,0 +1,109 @@
+package io.rhythmknights.coreframework.component.core;
+
+import io.rhythmknights.coreframework.component.utility.CompiledLine;
+import io.rhythmknights.coreframework.component.utility.FormattingSettings;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Validates compiled language lines against the configured line length when the language is loaded
+ * Placeholders are measured with configured worst-case widths, so the message path never has to check line lengths.
+ */
+public class LanguageValidator {
+
+    private static final int DEFAULT_PLACEHOLDER_WIDTH = 24;
+
+    private final int lineLength;
+    private final int minPadding;
+    private final int defaultPlaceholderWidth;
+    private final Map<String, Integer> placeholderWidths;
+
+    /**
+     * Create a new validator
+     *
+     * @param lineLength The total line length for scaled separators
+     * @param minPadding The minimum separator padding
+     * @param defaultPlaceholderWidth The worst-case width of placeholders without their own width
+     * @param placeholderWidths Worst-case widths of specific placeholders
+     */
+    public LanguageValidator(int lineLength, int minPadding, int defaultPlaceholderWidth, Map<String, Integer> placeholderWidths) {
+        this.lineLength = lineLength;
+        this.minPadding = minPadding;
+        this.defaultPlaceholderWidth = defaultPlaceholderWidth;
+        this.placeholderWidths = Collections.unmodifiableMap(new HashMap<>(placeholderWidths));
+    }
+
+    /**
+     * Create a validator from the internal configuration
+     *
+     * @param internalConfig The internal framework configuration
+     * @param settings The formatting settings the language was compiled with
+     * @return The validator
+     */
+    public static LanguageValidator fromConfig(YamlConfiguration internalConfig, FormattingSettings settings) {
+        int defaultWidth = internalConfig.getInt("formatting.validation.placeholder_width", DEFAULT_PLACEHOLDER_WIDTH);
+
+        Map<String, Integer> widths = new HashMap<>();
+        ConfigurationSection section = internalConfig.getConfigurationSection("formatting.validation.placeholder_widths");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                widths.put(key, section.getInt(key, defaultWidth));
+            }
+        }
+
+        return new LanguageValidator(settings.getLineLength(), settings.getMinPadding(), defaultWidth, widths);
+    }
+
+    /**
+     * Validate every scaled line of a language
+     *
+     * @param language The language name used in the report
+     * @param bundle The compiled language
+     * @return The validation report
+     */
+    public LanguageValidationReport validate(String language, LanguageBundle bundle) {
+        int availableWidth = lineLength - minPadding;
+        List<LanguageValidationReport.Issue> issues = new ArrayList<>();
+        int checked = 0;
+
+        // Sort by key so the report reads in a stable order
+        for (Map.Entry<String, CompiledLine> entry : new TreeMap<>(bundle.getLines()).entrySet()) {
+            CompiledLine line = entry.getValue();
+            if (!line.isScaled()) {
+                continue;
+            }
+            checked++;
+
+            if (line.getStaticWidth() > availableWidth) {
+                issues.add(new LanguageValidationReport.Issue(entry.getKey(),
+                    LanguageValidationReport.Severity.ERROR, line.getStaticWidth(), availableWidth));
+                continue;
+            }
+
+            int worstCase = line.getWorstCaseWidth(this::getPlaceholderWidth);
+            if (worstCase > availableWidth) {
+                issues.add(new LanguageValidationReport.Issue(entry.getKey(),
+                    LanguageValidationReport.Severity.WARNING, worstCase, availableWidth));
+            }
+        }
+
+        return new LanguageValidationReport(language, lineLength, minPadding, checked, issues);
+    }
+
+    /**
+     * Get the worst-case width of a placeholder value
+     *
+     * @param placeholder The placeholder name
+     * @return The width in characters
+     */
+    public int getPlaceholderWidth(String placeholder) {
+        return placeholderWidths.getOrDefault(placeholder, defaultPlaceholderWidth);
+    }
+}
\ No newline at end of file
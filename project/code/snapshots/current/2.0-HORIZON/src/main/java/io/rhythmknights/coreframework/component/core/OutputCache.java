@@ -3,46 +3,188 @@ package io.rhythmknights.coreframework.component.core;
 import io.rhythmknights.coreframework.component.utility.TextUtility;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Caches console output to be displayed all at once
  * This prevents other plugins from interrupting the formatted output display
+ *
+ * Lines may be added from any thread. The cache is a lock-free stack of lines: adding is a single
+ * compare-and-set, and draining swaps the whole stack out at once, so a flush never sees a
+ * half-added line and lines added during a flush are kept for the next one.
+ * The cache holds at most its capacity; lines added beyond it are dropped and counted, and the
+ * next flush reports how many were lost.
  */
 public class OutputCache {
     
-    private final List<String> cachedLines;
+    /**
+     * The default maximum number of cached lines
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+    
+    private final int capacity;
+    private final AtomicReference<Node> head;
+    private final AtomicInteger size;
+    private final LongAdder dropped;
+    private final AtomicInteger droppedSinceFlush;
     
     /**
-     * Create a new output cache
+     * Create a new output cache with the default capacity
      */
     public OutputCache() {
-        this.cachedLines = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Create a new output cache
+     * 
+     * @param capacity The maximum number of cached lines
+     */
+    public OutputCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.head = new AtomicReference<>();
+        this.size = new AtomicInteger();
+        this.dropped = new LongAdder();
+        this.droppedSinceFlush = new AtomicInteger();
     }
     
     /**
      * Add a line to the cache
+     * When the cache is full the line is dropped and counted, see {@link #offerLine(String)}
      * 
      * @param line The line to add
      */
     public void addLine(String line) {
-        cachedLines.add(line);
+        offerLine(line);
+    }
+    
+    /**
+     * Add a line to the cache, reporting whether it was kept
+     * 
+     * @param line The line to add
+     * @return True if the line was cached, false if the cache was full and the line was dropped
+     */
+    public boolean offerLine(String line) {
+        // Reserve a slot first so concurrent producers can never push the cache past its capacity
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            droppedSinceFlush.incrementAndGet();
+            return false;
+        }
+        
+        Node node = new Node(line);
+        Node current;
+        do {
+            current = head.get();
+            node.next = current;
+        } while (!head.compareAndSet(current, node));
+        return true;
     }
     
     /**
      * Add multiple lines to the cache
+     * The lines stay together and in order even while other threads add lines, see {@link #offerLines(List)}
      * 
      * @param lines The lines to add
      */
     public void addLines(List<String> lines) {
-        cachedLines.addAll(lines);
+        offerLines(lines);
+    }
+    
+    /**
+     * Add multiple lines to the cache, reporting how many were kept
+     * The lines are pushed with a single compare-and-set, so they stay together and in order even while
+     * other threads add lines. If the cache cannot hold all of them, the lines that fit are kept
+     * and the rest are dropped.
+     * 
+     * @param lines The lines to add
+     * @return The number of lines that were cached
+     */
+    public int offerLines(List<String> lines) {
+        int count = lines.size();
+        if (count == 0) {
+            return 0;
+        }
+        
+        // Reserve as many slots as still fit in one step
+        int reserved;
+        int current;
+        do {
+            current = size.get();
+            reserved = Math.max(0, Math.min(count, capacity - current));
+        } while (reserved > 0 && !size.compareAndSet(current, current + reserved));
+        
+        if (reserved < count) {
+            dropped.add(count - reserved);
+            droppedSinceFlush.addAndGet(count - reserved);
+        }
+        if (reserved == 0) {
+            return 0;
+        }
+        
+        // Chain the lines newest first, then push the whole chain at once
+        Node first = null;
+        Node last = null;
+        for (int i = reserved - 1; i >= 0; i--) {
+            Node node = new Node(lines.get(i));
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+        
+        Node top;
+        do {
+            top = head.get();
+            last.next = top;
+        } while (!head.compareAndSet(top, first));
+        return reserved;
+    }
+    
+    /**
+     * Add a prepared section to the cache as one block
+     * 
+     * @param section The section to add
+     * @return The number of lines that were cached
+     */
+    public int addSection(OutputSection section) {
+        return offerLines(section.getLines());
+    }
+    
+    /**
+     * Atomically take every cached line, leaving the cache empty
+     * 
+     * @return The cached lines in the order they were added
+     */
+    public List<String> drain() {
+        Node node = head.getAndSet(null);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        
+        // The stack holds the newest line first, reverse it into insertion order
+        List<String> lines = new ArrayList<>();
+        for (; node != null; node = node.next) {
+            lines.add(node.line);
+        }
+        size.addAndGet(-lines.size());
+        Collections.reverse(lines);
+        return lines;
     }
     
     /**
      * Clear the cache without displaying anything
      */
     public void clear() {
-        cachedLines.clear();
+        drain();
+        droppedSinceFlush.set(0);
     }
     
     /**
@@ -51,7 +193,7 @@ public class OutputCache {
      * @return The number of cached lines
      */
     public int size() {
-        return cachedLines.size();
+        return size.get();
     }
     
     /**
@@ -60,26 +202,68 @@ public class OutputCache {
      * @return True if the cache is empty
      */
     public boolean isEmpty() {
-        return cachedLines.isEmpty();
+        return head.get() == null;
+    }
+    
+    /**
+     * Get the maximum number of cached lines
+     * 
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Get the number of lines dropped because the cache was full
+     * 
+     * @return The total dropped line count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
     }
     
     /**
      * Display all cached lines and clear the cache
-     * This is the key method that outputs everything at once
+     * This is the key method that outputs everything at once: the lines are rendered first
+     * and written to the console as one block, bracketed by blank lines
      */
     public void flush() {
-        // Create a visual separator before our output block to make it stand out
-        System.out.println();
+        flushLines();
+    }
+    
+    /**
+     * Display all cached lines and clear the cache, like {@link #flush()}, returning what was displayed
+     * 
+     * @return The cached lines that were displayed, in the order they were added
+     */
+    public List<String> flushLines() {
+        List<String> lines = drain();
+        int droppedLines = droppedSinceFlush.getAndSet(0);
         
-        // Display all cached lines
-        for (String line : cachedLines) {
-            TextUtility.sendConsoleMessage(line);
+        List<String> block = new ArrayList<>(lines.size() + 3);
+        
+        // Blank lines around our output block make it stand out
+        block.add("");
+        block.addAll(lines);
+        if (droppedLines > 0) {
+            block.add("<red>" + droppedLines + " more lines were dropped, the output cache is limited to " + capacity + " lines.</red>");
         }
+        block.add("");
         
-        // Create a visual separator after our output block
-        System.out.println();
+        TextUtility.sendConsoleBlock(block);
+        return lines;
+    }
+    
+    /**
+     * A cached line in the stack
+     */
+    private static final class Node {
+        private final String line;
+        private Node next;
         
-        // Clear the cache
-        clear();
+        private Node(String line) {
+            this.line = line;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package io.rhythmknights.coreframework.component.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A named block of output lines prepared apart from the output cache
+ * Sections are filled by a single thread, e.g. a render worker, and added to the output cache
+ * as a whole, so their lines are never interleaved with lines from other sections
+ */
+public class OutputSection {
+
+    private final String name;
+    private final List<String> lines;
+
+    /**
+     * Create a new, empty section
+     *
+     * @param name The section name, e.g. the plugin it belongs to
+     */
+    public OutputSection(String name) {
+        this.name = name;
+        this.lines = new ArrayList<>();
+    }
+
+    /**
+     * Add a line to the section
+     *
+     * @param line The line to add
+     */
+    public void addLine(String line) {
+        lines.add(line);
+    }
+
+    /**
+     * Get the section name
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the lines of the section
+     *
+     * @return The lines in the order they were added
+     */
+    public List<String> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Get the number of lines in the section
+     *
+     * @return The line count
+     */
+    public int size() {
+        return lines.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package io.rhythmknights.coreframework.component.core;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the installed plugins by name, holding whether each is present, its version and whether it is enabled
+ * Built once from the plugin manager and kept current from plugin enable and disable events, so detection
+ * and hook checks read the index instead of asking the plugin manager every time.
+ * A name the index has not seen is looked up once and its result, including absence, is remembered
+ * until an event for that plugin replaces it. The index can be read from any thread.
+ */
+public class PluginIndex {
+
+    private final ConcurrentHashMap<String, Entry> entries;
+
+    /**
+     * Create a new, empty plugin index
+     */
+    public PluginIndex() {
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Rebuild the index from every plugin the plugin manager knows
+     */
+    public void rebuild() {
+        entries.clear();
+        for (Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
+            update(plugin, plugin.isEnabled());
+        }
+    }
+
+    /**
+     * Update the entry of a plugin
+     * Remembered absences are forgotten as well, since the plugin may also answer to other names
+     *
+     * @param plugin The plugin
+     * @param enabled Whether the plugin is now enabled
+     */
+    public void update(Plugin plugin, boolean enabled) {
+        entries.put(plugin.getName(), new Entry(plugin.getName(), plugin.getDescription().getVersion(), true, enabled));
+        entries.values().removeIf(entry -> !entry.isPresent());
+    }
+
+    /**
+     * Get the entry of a plugin
+     *
+     * @param name The plugin name
+     * @return The entry, which reports the plugin as absent if it is not installed
+     */
+    public Entry get(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(name, this::lookup);
+        }
+        return entry;
+    }
+
+    /**
+     * Check whether a plugin is installed
+     *
+     * @param name The plugin name
+     * @return True if the plugin is installed, enabled or not
+     */
+    public boolean isPresent(String name) {
+        return get(name).isPresent();
+    }
+
+    /**
+     * Check whether a plugin is installed and enabled
+     *
+     * @param name The plugin name
+     * @return True if the plugin is enabled
+     */
+    public boolean isEnabled(String name) {
+        return get(name).isEnabled();
+    }
+
+    /**
+     * Get the installed version of a plugin
+     *
+     * @param name The plugin name
+     * @return The version, or null if the plugin is not installed
+     */
+    public String getVersion(String name) {
+        return get(name).getVersion();
+    }
+
+    /**
+     * Get the number of indexed names, including names remembered as absent
+     *
+     * @return The index size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Ask the plugin manager about a name the index has not seen
+     */
+    private Entry lookup(String name) {
+        Plugin plugin = Bukkit.getPluginManager().getPlugin(name);
+        if (plugin == null) {
+            return new Entry(name, null, false, false);
+        }
+        return new Entry(plugin.getName(), plugin.getDescription().getVersion(), true, plugin.isEnabled());
+    }
+
+    /**
+     * The indexed state of one plugin name
+     */
+    public static final class Entry {
+        private final String name;
+        private final String version;
+        private final boolean present;
+        private final boolean enabled;
+
+        private Entry(String name, String version, boolean present, boolean enabled) {
+            this.name = name;
+            this.version = version;
+            this.present = present;
+            this.enabled = enabled;
+        }
+
+        /**
+         * Get the plugin name
+         *
+         * @return The name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the installed version
+         *
+         * @return The version, or null if the plugin is not installed
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Check whether the plugin is installed
+         *
+         * @return True if the plugin is installed
+         */
+        public boolean isPresent() {
+            return present;
+        }
+
+        /**
+         * Check whether the plugin is enabled
+         *
+         * @return True if the plugin is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
+}
\ No newline at end of file
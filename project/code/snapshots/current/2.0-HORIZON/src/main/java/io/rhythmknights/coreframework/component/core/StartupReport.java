@@ -0,0 +1,313 @@
+package io.rhythmknights.coreframework.component.core;
+
+import io.rhythmknights.coreframework.component.api.plugin.RegisteredPlugin;
+import io.rhythmknights.coreframework.component.utility.RenderedMessage;
+import io.rhythmknights.coreframework.component.utility.TextUtility;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Everything the startup display showed, collected for the startup report files
+ * Records the detected core plugins, the hook outcome and preparation time of every registered plugin,
+ * the activation result, the duration of each startup phase and the output lines themselves.
+ * Can be recorded into from several threads.
+ */
+public class StartupReport {
+
+    private final String frameworkVersion;
+    private final String apiVersion;
+    private final Instant startedAt;
+
+    private final Map<String, String> detectedPlugins;
+    private final Map<String, PluginEntry> plugins;
+    private final Map<String, Long> phases;
+    private final List<String> successful;
+    private final List<String> failed;
+    private final List<String> output;
+    private long droppedLines;
+
+    /**
+     * Create a new, empty startup report
+     *
+     * @param frameworkVersion The CoreFramework version
+     * @param apiVersion The bundled CoreAPI version
+     */
+    public StartupReport(String frameworkVersion, String apiVersion) {
+        this.frameworkVersion = frameworkVersion;
+        this.apiVersion = apiVersion;
+        this.startedAt = Instant.now();
+        this.detectedPlugins = new LinkedHashMap<>();
+        this.plugins = new LinkedHashMap<>();
+        this.phases = new LinkedHashMap<>();
+        this.successful = new ArrayList<>();
+        this.failed = new ArrayList<>();
+        this.output = new ArrayList<>();
+    }
+
+    /**
+     * Record a detected core plugin
+     *
+     * @param name The plugin name
+     * @param version The installed version
+     */
+    public synchronized void recordDetectedPlugin(String name, String version) {
+        detectedPlugins.put(name, version);
+    }
+
+    /**
+     * Add a registered plugin to the report, plugins are listed in the order they were first added
+     * Adding a plugin again clears its recorded hooks and timing, so a new preparation replaces the old one
+     *
+     * @param plugin The registered plugin
+     */
+    public synchronized void recordPlugin(RegisteredPlugin plugin) {
+        PluginEntry entry = entry(plugin);
+        entry.hooks.clear();
+        entry.prepareNanos = 0L;
+    }
+
+    /**
+     * Record the outcome of a hook check
+     *
+     * @param plugin The registered plugin that requires the hook
+     * @param hookPlugin The plugin being hooked into
+     * @param required Whether the hook is required
+     * @param hooked Whether the hooked plugin was available
+     */
+    public synchronized void recordHook(RegisteredPlugin plugin, String hookPlugin, boolean required, boolean hooked) {
+        entry(plugin).hooks.add(new HookEntry(hookPlugin, required, hooked));
+    }
+
+    /**
+     * Record how long preparing a plugin's hook status took
+     *
+     * @param plugin The registered plugin
+     * @param nanos The preparation time in nanoseconds
+     */
+    public synchronized void recordPluginTiming(RegisteredPlugin plugin, long nanos) {
+        entry(plugin).prepareNanos = nanos;
+    }
+
+    /**
+     * Record the duration of a startup phase
+     *
+     * @param phase The phase name, e.g. "enable" or "flush"
+     * @param nanos The duration in nanoseconds
+     */
+    public synchronized void recordPhase(String phase, long nanos) {
+        phases.put(phase, nanos);
+    }
+
+    /**
+     * Record which plugins were activated
+     *
+     * @param successfulPlugins Plugins whose required hooks all succeeded
+     * @param failedPlugins Plugins with a failed required hook
+     */
+    public synchronized void recordActivation(List<String> successfulPlugins, List<String> failedPlugins) {
+        successful.clear();
+        successful.addAll(successfulPlugins);
+        failed.clear();
+        failed.addAll(failedPlugins);
+    }
+
+    /**
+     * Record the lines that were displayed
+     *
+     * @param lines The raw output lines
+     * @param dropped The number of lines the output cache dropped
+     */
+    public synchronized void recordOutput(List<String> lines, long dropped) {
+        output.clear();
+        output.addAll(lines);
+        droppedLines = dropped;
+    }
+
+    /**
+     * Get the time the report was started
+     *
+     * @return The start time
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Render the report as plain text: the displayed output without formatting, followed by the timings
+     *
+     * @return The text report
+     */
+    public synchronized String toText() {
+        StringBuilder text = new StringBuilder(4096);
+        text.append("CoreFramework ").append(frameworkVersion).append(" startup report - ").append(startedAt).append('\n');
+        text.append('\n');
+
+        for (String line : output) {
+            // Rendered outside the shared parse cache, these lines are not sent again
+            text.append(RenderedMessage.of(TextUtility.processMessage(line)).plain()).append('\n');
+        }
+        if (droppedLines > 0) {
+            text.append(droppedLines).append(" lines were dropped from the display\n");
+        }
+
+        text.append('\n').append("Timings").append('\n');
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            text.append("  ").append(phase.getKey()).append(": ").append(millis(phase.getValue())).append(" ms\n");
+        }
+        for (PluginEntry plugin : plugins.values()) {
+            long hooked = plugin.hooks.stream().filter(hook -> hook.hooked).count();
+            text.append("  ").append(plugin.name).append(": ").append(millis(plugin.prepareNanos)).append(" ms, ")
+                .append(hooked).append('/').append(plugin.hooks.size()).append(" hooks\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Render the report as JSON
+     *
+     * @return The JSON report
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder(4096);
+        json.append("{\n");
+        json.append("  \"generated\": ").append(quote(startedAt.toString())).append(",\n");
+        json.append("  \"framework\": {\"version\": ").append(quote(frameworkVersion))
+            .append(", \"api_version\": ").append(quote(apiVersion)).append("},\n");
+
+        json.append("  \"timings_ms\": {");
+        int index = 0;
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            json.append(index++ > 0 ? ", " : "").append(quote(phase.getKey())).append(": ").append(millis(phase.getValue()));
+        }
+        json.append("},\n");
+
+        json.append("  \"detected_plugins\": [");
+        index = 0;
+        for (Map.Entry<String, String> detected : detectedPlugins.entrySet()) {
+            json.append(index++ > 0 ? ", " : "").append("{\"name\": ").append(quote(detected.getKey()))
+                .append(", \"version\": ").append(quote(detected.getValue())).append('}');
+        }
+        json.append("],\n");
+
+        json.append("  \"plugins\": [");
+        index = 0;
+        for (PluginEntry plugin : plugins.values()) {
+            json.append(index++ > 0 ? "," : "").append("\n    {");
+            json.append("\"name\": ").append(quote(plugin.name));
+            json.append(", \"version\": ").append(quote(plugin.version));
+            json.append(", \"codename\": ").append(quote(plugin.codename));
+            json.append(", \"prepare_ms\": ").append(millis(plugin.prepareNanos));
+            json.append(", \"required_hooks_ok\": ").append(plugin.hooks.stream().allMatch(hook -> hook.hooked || !hook.required));
+            json.append(", \"hooks\": [");
+            for (int i = 0; i < plugin.hooks.size(); i++) {
+                HookEntry hook = plugin.hooks.get(i);
+                json.append(i > 0 ? ", " : "").append("{\"plugin\": ").append(quote(hook.plugin))
+                    .append(", \"required\": ").append(hook.required)
+                    .append(", \"hooked\": ").append(hook.hooked).append('}');
+            }
+            json.append("]}");
+        }
+        json.append(index > 0 ? "\n  " : "").append("],\n");
+
+        json.append("  \"activation\": {\"successful\": ").append(quoteAll(successful))
+            .append(", \"failed\": ").append(quoteAll(failed)).append("},\n");
+        json.append("  \"dropped_lines\": ").append(droppedLines).append('\n');
+        json.append("}\n");
+        return json.toString();
+    }
+
+    /**
+     * Get the entry of a plugin, creating it on first use
+     */
+    private PluginEntry entry(RegisteredPlugin plugin) {
+        return plugins.computeIfAbsent(plugin.getName(),
+            name -> new PluginEntry(name, plugin.getVersion(), plugin.getCodename()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String quoteAll(List<String> values) {
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            array.append(i > 0 ? ", " : "").append(quote(values.get(i)));
+        }
+        return array.append(']').toString();
+    }
+
+    /**
+     * Quote a string as a JSON string literal
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * The recorded state of one registered plugin
+     */
+    private static final class PluginEntry {
+        private final String name;
+        private final String version;
+        private final String codename;
+        private final List<HookEntry> hooks = new ArrayList<>();
+        private long prepareNanos;
+
+        private PluginEntry(String name, String version, String codename) {
+            this.name = name;
+            this.version = version;
+            this.codename = codename;
+        }
+    }
+
+    /**
+     * The outcome of one hook check
+     */
+    private static final class HookEntry {
+        private final String plugin;
+        private final boolean required;
+        private final boolean hooked;
+
+        private HookEntry(String plugin, boolean required, boolean hooked) {
+            this.plugin = plugin;
+            this.required = required;
+            this.hooked = hooked;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package io.rhythmknights.coreframework.component.core;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes the startup report to the data folder as startup.txt and startup.json
+ * The files are written off the server thread through file channels. Each new report replaces the
+ * previous one atomically, and earlier reports are kept as startup.1.txt, startup.2.txt, ... up to
+ * the configured number of files; the oldest are deleted once the kept reports exceed the size limit.
+ */
+public class StartupReportWriter {
+
+    private static final String BASE_NAME = "startup";
+    private static final String[] EXTENSIONS = {".txt", ".json"};
+
+    private final Path directory;
+    private final int maxFiles;
+    private final long maxTotalBytes;
+    private final Logger logger;
+
+    /**
+     * Create a new startup report writer
+     *
+     * @param directory The directory the reports are written to
+     * @param maxFiles The number of earlier reports to keep
+     * @param maxTotalBytes The maximum combined size of the earlier reports
+     * @param logger The logger write failures are reported to
+     */
+    public StartupReportWriter(Path directory, int maxFiles, long maxTotalBytes, Logger logger) {
+        this.directory = directory;
+        this.maxFiles = Math.max(0, maxFiles);
+        this.maxTotalBytes = Math.max(0L, maxTotalBytes);
+        this.logger = logger;
+    }
+
+    /**
+     * Create a startup report writer from the internal configuration
+     *
+     * @param dataFolder The plugin data folder
+     * @param config The internal configuration
+     * @param logger The logger write failures are reported to
+     * @return The writer, or null if startup reports are disabled
+     */
+    public static StartupReportWriter fromConfig(File dataFolder, YamlConfiguration config, Logger logger) {
+        if (!config.getBoolean("report.enabled", true)) {
+            return null;
+        }
+        return new StartupReportWriter(
+            dataFolder.toPath().resolve(config.getString("report.directory", "reports")),
+            config.getInt("report.max_files", 5),
+            config.getLong("report.max_total_bytes", 1048576L),
+            logger
+        );
+    }
+
+    /**
+     * Write a report on a background thread
+     * The report is rendered on the calling thread so later changes to it do not leak into the files
+     *
+     * @param report The report to write
+     * @return A future completed once both files are written
+     */
+    public CompletableFuture<Void> write(StartupReport report) {
+        String text = report.toText();
+        String json = report.toJson();
+        return CompletableFuture.runAsync(() -> writeNow(text, json), runnable -> {
+            Thread thread = new Thread(runnable, "CoreFramework-StartupReport");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Get the directory the reports are written to
+     *
+     * @return The report directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Rotate the earlier reports and write the new files
+     */
+    private void writeNow(String text, String json) {
+        try {
+            Files.createDirectories(directory);
+            for (String extension : EXTENSIONS) {
+                rotate(extension);
+            }
+            writeFile(file(0, ".txt"), text);
+            writeFile(file(0, ".json"), json);
+            trim();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write the startup report to " + directory, e);
+        }
+    }
+
+    /**
+     * Shift every kept report one index up, dropping the one that falls off the end
+     */
+    private void rotate(String extension) throws IOException {
+        if (maxFiles == 0) {
+            return;
+        }
+
+        Files.deleteIfExists(file(maxFiles, extension));
+        for (int index = maxFiles - 1; index >= 0; index--) {
+            Path source = file(index, extension);
+            if (Files.exists(source)) {
+                Files.move(source, file(index + 1, extension), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Delete the oldest kept reports until the kept reports fit the size limit
+     */
+    private void trim() throws IOException {
+        long total = 0L;
+        for (int index = 1; index <= maxFiles; index++) {
+            total += size(index);
+        }
+
+        for (int index = maxFiles; index >= 1 && total > maxTotalBytes; index--) {
+            total -= size(index);
+            for (String extension : EXTENSIONS) {
+                Files.deleteIfExists(file(index, extension));
+            }
+        }
+    }
+
+    /**
+     * Get the combined size of the kept report with an index
+     */
+    private long size(int index) throws IOException {
+        long size = 0L;
+        for (String extension : EXTENSIONS) {
+            Path path = file(index, extension);
+            if (Files.exists(path)) {
+                size += Files.size(path);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Write a file through a temporary file, so readers never see a half-written report
+     */
+    private void writeFile(Path target, String content) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(content);
+
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Get the path of a report file, index 0 being the newest report
+     */
+    private Path file(int index, String extension) {
+        return directory.resolve(index == 0 ? BASE_NAME + extension : BASE_NAME + "." + index + extension);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.platform.bukkit.BukkitAudiences;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Asynchronous messaging mode for TextUtility
+ * Messages are processed and parsed on the render workers, queued in send order, and flushed
+ * to the audiences once per tick on the main thread within a configurable time budget.
+ */
+public final class AsyncMessagePipeline {
+
+    // How long an off-thread producer waits for queue space before the message is dropped
+    private static final long OFFER_TIMEOUT_MILLIS = 50L;
+
+    private final Plugin plugin;
+    private final ArrayBlockingQueue<PendingMessage> queue;
+    private final long flushBudgetNanos;
+
+    private final LongAdder dispatched;
+    private final LongAdder dropped;
+    private final LongAdder overflowFlushes;
+
+    private BukkitTask flushTask;
+
+    /**
+     * Create a new pipeline
+     *
+     * @param plugin The plugin used to schedule the per-tick flush
+     * @param capacity The maximum number of queued messages
+     * @param flushBudgetMicros The main-thread time budget per tick in microseconds
+     */
+    public AsyncMessagePipeline(Plugin plugin, int capacity, long flushBudgetMicros) {
+        this.plugin = plugin;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.flushBudgetNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(1L, flushBudgetMicros));
+        this.dispatched = new LongAdder();
+        this.dropped = new LongAdder();
+        this.overflowFlushes = new LongAdder();
+    }
+
+    /**
+     * Start flushing the queue every tick
+     */
+    public void start() {
+        if (flushTask == null || flushTask.isCancelled()) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the per-tick flush and send everything still queued, waiting for pending renders
+     * Must be called from the main thread, before the audiences are closed
+     */
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        drainBlocking();
+    }
+
+    /**
+     * Queue a message to be processed and parsed on a render worker
+     *
+     * @param target Resolves the receiving audience on the main thread
+     * @param message The raw message
+     */
+    public void submit(Function<BukkitAudiences, Audience> target, String message) {
+        CompletableFuture<Component> render = CompletableFuture.supplyAsync(
+            () -> TextUtility.parse(TextUtility.processMessage(message)), RenderWorkers.executor());
+        enqueue(new PendingMessage(target, render));
+    }
+
+    /**
+     * Queue a message that was already processed, to be parsed on a render worker
+     *
+     * @param target Resolves the receiving audience on the main thread
+     * @param processedMessage The message after {@link TextUtility#processMessage(String)}
+     */
+    public void submitProcessed(Function<BukkitAudiences, Audience> target, String processedMessage) {
+        CompletableFuture<Component> render = CompletableFuture.supplyAsync(
+            () -> TextUtility.parse(processedMessage), RenderWorkers.executor());
+        enqueue(new PendingMessage(target, render));
+    }
+
+    /**
+     * Queue an already rendered component
+     *
+     * @param target Resolves the receiving audience on the main thread
+     * @param component The component to send
+     */
+    public void submit(Function<BukkitAudiences, Audience> target, Component component) {
+        enqueue(new PendingMessage(target, CompletableFuture.completedFuture(component)));
+    }
+
+    /**
+     * Get the number of messages waiting to be sent
+     *
+     * @return The queue size
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of messages sent through the pipeline
+     *
+     * @return The dispatched count
+     */
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Get the number of messages dropped because the queue stayed full
+     *
+     * @return The dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get how often the main thread had to drain a full queue before it could send
+     *
+     * @return The number of overflow flushes
+     */
+    public long getOverflowFlushCount() {
+        return overflowFlushes.sum();
+    }
+
+    /**
+     * Add a message to the queue, applying backpressure when it is full
+     * On the main thread the queue is drained synchronously first, which keeps the send order;
+     * other threads wait briefly for space and drop the message if none frees up.
+     */
+    private void enqueue(PendingMessage pending) {
+        if (queue.offer(pending)) {
+            return;
+        }
+
+        if (Bukkit.isPrimaryThread()) {
+            overflowFlushes.increment();
+            drainBlocking();
+            if (!queue.offer(pending)) {
+                send(pending.target, pending.await());
+            }
+            return;
+        }
+
+        try {
+            if (!queue.offer(pending, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+            }
+        } catch (InterruptedException e) {
+            dropped.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Send rendered messages in order until the head is still rendering or the budget is used up
+     */
+    private void flush() {
+        long deadline = System.nanoTime() + flushBudgetNanos;
+
+        PendingMessage head;
+        while ((head = queue.peek()) != null && head.render.isDone()) {
+            queue.poll();
+            send(head.target, head.await());
+
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Send everything in the queue, waiting for renders that are still in progress
+     */
+    private void drainBlocking() {
+        PendingMessage head;
+        while ((head = queue.poll()) != null) {
+            send(head.target, head.await());
+        }
+    }
+
+    /**
+     * Resolve the audience and send a component
+     */
+    private void send(Function<BukkitAudiences, Audience> target, Component component) {
+        BukkitAudiences audiences = TextUtility.audiences();
+        if (component == null || audiences == null) {
+            dropped.increment();
+            return;
+        }
+
+        try {
+            target.apply(audiences).sendMessage(component);
+            dispatched.increment();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to dispatch queued message", e);
+        }
+    }
+
+    /**
+     * A queued message: where it goes and the component being rendered for it
+     */
+    private static final class PendingMessage {
+        private final Function<BukkitAudiences, Audience> target;
+        private final CompletableFuture<Component> render;
+
+        private PendingMessage(Function<BukkitAudiences, Audience> target, CompletableFuture<Component> render) {
+            this.target = target;
+            this.render = render;
+        }
+
+        /**
+         * Wait for the render to finish
+         *
+         * @return The rendered component, or null if rendering failed
+         */
+        private Component await() {
+            try {
+                return render.join();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,311 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded, thread-safe cache with size, weight and age based eviction
+ * Lookups are a single map read; eviction only runs once the cache grows past its maximum size or weight
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class BoundedCache<K, V> {
+
+    // When the cache overflows it is trimmed to this fraction of its maximum size,
+    // so the eviction scan runs once per batch of inserts rather than on every insert
+    private static final double TRIM_RATIO = 0.9;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final int maximumSize;
+    private final long expireAfterNanos;
+    private final long maximumWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LongAdder weight;
+    private final AtomicBoolean evicting;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Create a new bounded cache
+     *
+     * @param maximumSize The maximum number of entries to hold
+     * @param expireAfterSeconds Seconds after which an entry is considered stale (0 or less to disable)
+     */
+    public BoundedCache(int maximumSize, long expireAfterSeconds) {
+        this(maximumSize, expireAfterSeconds, 0L, null);
+    }
+
+    /**
+     * Create a new bounded cache that is also bounded by the total weight of its values
+     *
+     * @param maximumSize The maximum number of entries to hold
+     * @param expireAfterSeconds Seconds after which an entry is considered stale (0 or less to disable)
+     * @param maximumWeight The maximum total weight of all values (0 or less to disable)
+     * @param weigher Estimates the weight of a value, e.g. its size in bytes (null to disable)
+     */
+    public BoundedCache(int maximumSize, long expireAfterSeconds, long maximumWeight, ToLongFunction<? super V> weigher) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.expireAfterNanos = expireAfterSeconds > 0 ? TimeUnit.SECONDS.toNanos(expireAfterSeconds) : 0L;
+        this.maximumWeight = weigher != null && maximumWeight > 0 ? maximumWeight : 0L;
+        this.weigher = this.maximumWeight > 0 ? weigher : null;
+        this.weight = new LongAdder();
+        this.entries = new ConcurrentHashMap<>(Math.min(this.maximumSize, 1024));
+        this.evicting = new AtomicBoolean(false);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Get a cached value, computing and storing it if absent or stale
+     *
+     * @param key The key to look up
+     * @param loader Function used to compute the value on a miss
+     * @return The cached or freshly computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+
+        if (entry != null) {
+            if (!isExpired(entry, now)) {
+                entry.lastAccess = now;
+                hits.increment();
+                return entry.value;
+            }
+
+            // Stale entry, drop it and fall through to a reload
+            if (remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        store(key, value, now);
+        return value;
+    }
+
+    /**
+     * Get a cached value without computing it
+     *
+     * @param key The key to look up
+     * @return The cached value, or null if absent or stale
+     */
+    public V getIfPresent(K key) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry == null || isExpired(entry, now)) {
+            misses.increment();
+            return null;
+        }
+
+        entry.lastAccess = now;
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Store a value, replacing any existing entry for the key
+     *
+     * @param key The key
+     * @param value The value to store
+     */
+    public void put(K key, V value) {
+        store(key, value, System.nanoTime());
+    }
+
+    /**
+     * Remove a single entry
+     *
+     * @param key The key to remove
+     */
+    public void invalidate(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    /**
+     * Remove every entry, keeping the counters
+     */
+    public void invalidateAll() {
+        for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+            remove(mapEntry.getKey(), mapEntry.getValue());
+        }
+    }
+
+    /**
+     * Get the number of entries currently held
+     *
+     * @return The cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the total weight of the entries currently held
+     *
+     * @return The cache weight, or 0 if the cache is not weighted
+     */
+    public long getWeight() {
+        return weight.sum();
+    }
+
+    /**
+     * Get the maximum total weight this cache holds
+     *
+     * @return The maximum weight, or 0 if the cache is not weighted
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Get the maximum number of entries this cache holds
+     *
+     * @return The maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Take a snapshot of the cache counters
+     *
+     * @return The current statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Store an entry, keeping the total weight in step and evicting if a bound was crossed
+     */
+    private void store(K key, V value, long now) {
+        Entry<V> entry = new Entry<>(value, now, weigher != null ? Math.max(0L, weigher.applyAsLong(value)) : 0L);
+        Entry<V> previous = entries.put(key, entry);
+        weight.add(previous != null ? entry.weight - previous.weight : entry.weight);
+
+        if (isOverBounds(entries.size(), weight.sum(), 1.0)) {
+            evict(now);
+        }
+    }
+
+    /**
+     * Remove an entry if it is still mapped, keeping the total weight in step
+     *
+     * @return True if the entry was removed
+     */
+    private boolean remove(K key, Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            weight.add(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a size and weight exceed the given fraction of the bounds
+     */
+    private boolean isOverBounds(int size, long currentWeight, double ratio) {
+        return size > (int) (maximumSize * ratio)
+            || (maximumWeight > 0 && currentWeight > (long) (maximumWeight * ratio));
+    }
+
+    /**
+     * Check whether an entry is older than the configured age
+     */
+    private boolean isExpired(Entry<V> entry, long now) {
+        return expireAfterNanos > 0 && now - entry.created > expireAfterNanos;
+    }
+
+    /**
+     * Drop stale entries, then the least recently used ones until the cache is back under its trim size and weight
+     * Only one thread evicts at a time; concurrent writers simply skip eviction
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+                Entry<V> entry = mapEntry.getValue();
+                if (isExpired(entry, now)) {
+                    if (remove(mapEntry.getKey(), entry)) {
+                        evictions.increment();
+                    }
+                } else {
+                    candidates.add(new Candidate<>(mapEntry.getKey(), entry));
+                }
+            }
+
+            if (!isOverBounds(entries.size(), weight.sum(), TRIM_RATIO)) {
+                return;
+            }
+
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            for (int i = 0; i < candidates.size() && isOverBounds(entries.size(), weight.sum(), TRIM_RATIO); i++) {
+                Candidate<K, V> candidate = candidates.get(i);
+                if (remove(candidate.key, candidate.entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * A cached value with its weight and its creation and last access times
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long created;
+        // Written without synchronization; only used as an approximate LRU order
+        private long lastAccess;
+
+        private Entry(V value, long now, long weight) {
+            this.value = value;
+            this.weight = weight;
+            this.created = now;
+            this.lastAccess = now;
+        }
+    }
+
+    /**
+     * An eviction candidate with its access time captured once, so the sort order
+     * stays consistent while other threads keep reading the cache
+     */
+    private static final class Candidate<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Candidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package io.rhythmknights.coreframework.component.utility;
+
+/**
+ * Immutable snapshot of the counters kept by a {@link BoundedCache}
+ */
+public class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    /**
+     * Create a new statistics snapshot
+     *
+     * @param hitCount Number of lookups served from the cache
+     * @param missCount Number of lookups that had to compute a value
+     * @param evictionCount Number of entries removed by size or age
+     * @param size Number of entries currently held
+     */
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Get the number of cache hits
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of cache misses
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the number of evicted entries
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Get the number of entries held when the snapshot was taken
+     * @return The cache size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the total number of lookups
+     * @return Hits plus misses
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Get the ratio of lookups served from the cache
+     * @return The hit rate between 0 and 1, or 1 if nothing was requested yet
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStatistics[hits=%d, misses=%d, evictions=%d, size=%d, hitRate=%.2f]",
+            hitCount, missCount, evictionCount, size, getHitRate());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * A lang line with {prefix} and {scaled.separator} resolved at language load time
+ * Lines without other placeholders are stored in their final form. Lines with placeholders keep the
+ * width of their static content, so only the substituted values are measured when the line is sent.
+ */
+public final class CompiledLine {
+
+    private static final String SCALED_SEPARATOR_KEY = "scaled.separator";
+
+    private final String source;
+    // Final text for lines that do not depend on values, null otherwise
+    private final String resolved;
+    private final MessageTemplate template;
+    private final boolean scaled;
+    private final int staticWidth;
+
+    /**
+     * Create a compiled line
+     */
+    private CompiledLine(String source, String resolved, MessageTemplate template, boolean scaled, int staticWidth) {
+        this.source = source;
+        this.resolved = resolved;
+        this.template = template;
+        this.scaled = scaled;
+        this.staticWidth = staticWidth;
+    }
+
+    /**
+     * Compile a raw lang line with the current formatting settings
+     *
+     * @param raw The line as written in the language file
+     * @return The compiled line
+     */
+    public static CompiledLine compile(String raw) {
+        String source = raw == null ? "" : raw;
+        String prepared = TextUtility.replacePrefixVariable(source);
+        MessageTemplate template = MessageTemplate.compile(prepared);
+
+        boolean scaled = template.hasPlaceholder(SCALED_SEPARATOR_KEY);
+        boolean dynamic = false;
+        for (String key : template.getPlaceholders()) {
+            if (!SCALED_SEPARATOR_KEY.equals(key)) {
+                dynamic = true;
+                break;
+            }
+        }
+
+        int staticWidth = 0;
+        if (scaled) {
+            // Measure everything except the placeholders; value widths are added at render time
+            StringBuilder staticText = new StringBuilder(prepared.length());
+            for (String literal : template.getLiterals()) {
+                staticText.append(literal);
+            }
+            staticWidth = TextUtility.stripFormattingForLength(staticText.toString()).length();
+        }
+
+        if (!dynamic) {
+            String resolved = scaled
+                ? template.render(SCALED_SEPARATOR_KEY, TextUtility.scaledSeparator(staticWidth))
+                : prepared;
+            return new CompiledLine(source, resolved, template, scaled, staticWidth);
+        }
+
+        return new CompiledLine(source, null, template, scaled, staticWidth);
+    }
+
+    /**
+     * Render the line with its values
+     *
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The line ready to be parsed and sent
+     */
+    public String render(String... replacements) {
+        if (resolved != null) {
+            return resolved;
+        }
+
+        if (!scaled) {
+            return template.render(replacements);
+        }
+
+        // Only the substituted values still need measuring
+        int width = staticWidth;
+        List<String> placeholders = template.getPlaceholders();
+        for (String key : placeholders) {
+            if (!SCALED_SEPARATOR_KEY.equals(key)) {
+                width += valueWidth(key, replacements);
+            }
+        }
+
+        String[] values = new String[replacements.length + 2];
+        System.arraycopy(replacements, 0, values, 0, replacements.length);
+        values[replacements.length] = SCALED_SEPARATOR_KEY;
+        values[replacements.length + 1] = TextUtility.scaledSeparator(width);
+        return template.render(values);
+    }
+
+    /**
+     * Check whether the line is stored in its final form
+     *
+     * @return True if rendering does not depend on values
+     */
+    public boolean isStatic() {
+        return resolved != null;
+    }
+
+    /**
+     * Check whether the line contains a scaled separator
+     *
+     * @return True if the line is padded to the configured line length
+     */
+    public boolean isScaled() {
+        return scaled;
+    }
+
+    /**
+     * Get the visible width of the line without its placeholders
+     *
+     * @return The static width, or 0 if the line has no scaled separator
+     */
+    public int getStaticWidth() {
+        return staticWidth;
+    }
+
+    /**
+     * Calculate the widest the visible content of the line can get
+     * Static lines return their exact width
+     *
+     * @param placeholderWidth The worst-case width of each placeholder value
+     * @return The worst-case width of the line without its separator
+     */
+    public int getWorstCaseWidth(ToIntFunction<String> placeholderWidth) {
+        int width = staticWidth;
+        for (String key : template.getPlaceholders()) {
+            if (!SCALED_SEPARATOR_KEY.equals(key)) {
+                width += placeholderWidth.applyAsInt(key);
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Get the placeholder names of the line, excluding the scaled separator
+     *
+     * @return The placeholder names in order, including duplicates
+     */
+    public List<String> getPlaceholders() {
+        return template.getPlaceholders().stream()
+            .filter(key -> !SCALED_SEPARATOR_KEY.equals(key))
+            .toList();
+    }
+
+    /**
+     * Get the raw line this was compiled from
+     *
+     * @return The source line
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Measure the visible width a placeholder takes once substituted
+     * A placeholder without a value stays in the line as {key}
+     */
+    private static int valueWidth(String key, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (key.equals(replacements[i])) {
+                return TextUtility.visibleLength(replacements[i + 1]);
+            }
+        }
+        return key.length() + 2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A lang message parsed once into a reusable component skeleton
+ * Each {placeholder} becomes a slot that is filled with a value component at render time,
+ * so per-recipient messages never reparse the markup around their values.
+ *
+ * Placeholders must sit in text positions; a {placeholder} inside a tag argument is not supported.
+ */
+public final class ComponentTemplate {
+
+    private static final String SLOT_TAG = "cf_slot";
+    private static final String SLOT_INSERTION = "\u0000" + SLOT_TAG + ":";
+    private static final String SCALED_SEPARATOR_KEY = "scaled.separator";
+
+    // Skeletons must not be compacted, or the empty slot markers would be merged away
+    private static final MiniMessage SKELETON_PARSER = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity())
+            .build();
+
+    // Resolves <cf_slot:N> into an empty marker component that is swapped out at render time
+    private static final TagResolver SLOT_RESOLVER = TagResolver.resolver(SLOT_TAG, (arguments, context) ->
+            Tag.selfClosingInserting(slotMarker(arguments.popOr("Slot index expected").asInt().orElse(0))));
+
+    private static final Style SEPARATOR_STYLE = Style.style(TextDecoration.STRIKETHROUGH);
+
+    private final String source;
+    private final Component skeleton;
+    // Distinct placeholder names; a name's index is its slot number
+    private final String[] slotKeys;
+    // How often each placeholder occurs, used to measure value widths for the separator
+    private final int[] occurrences;
+    private final boolean scaled;
+    private final int staticWidth;
+
+    /**
+     * Create a compiled component template
+     */
+    private ComponentTemplate(String source, Component skeleton, String[] slotKeys, int[] occurrences,
+                              boolean scaled, int staticWidth) {
+        this.source = source;
+        this.skeleton = skeleton;
+        this.slotKeys = slotKeys;
+        this.occurrences = occurrences;
+        this.scaled = scaled;
+        this.staticWidth = staticWidth;
+    }
+
+    /**
+     * Compile a lang message into a component skeleton
+     * {prefix} is resolved immediately, {scaled.separator} becomes a slot sized from the values at render time
+     *
+     * @param message The raw lang message
+     * @return The compiled template
+     */
+    public static ComponentTemplate compile(String message) {
+        String prepared = message == null ? "" : TextUtility.replacePrefixVariable(message);
+        MessageTemplate template = MessageTemplate.compile(prepared);
+        List<String> placeholders = template.getPlaceholders();
+        List<String> literals = template.getLiterals();
+
+        // Collect distinct placeholder names first so the separator can take the slot after them
+        List<String> keys = new ArrayList<>();
+        boolean scaled = false;
+        for (String key : placeholders) {
+            if (SCALED_SEPARATOR_KEY.equals(key)) {
+                scaled = true;
+            } else if (!keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+
+        int[] occurrences = new int[keys.size()];
+        StringBuilder markup = new StringBuilder(prepared.length() + placeholders.size() * 12);
+        StringBuilder staticText = new StringBuilder(prepared.length());
+
+        for (int i = 0; i < placeholders.size(); i++) {
+            markup.append(literals.get(i));
+            staticText.append(literals.get(i));
+
+            String key = placeholders.get(i);
+            int slot = SCALED_SEPARATOR_KEY.equals(key) ? keys.size() : keys.indexOf(key);
+            if (slot < keys.size()) {
+                occurrences[slot]++;
+            }
+            markup.append('<').append(SLOT_TAG).append(':').append(slot).append('>');
+        }
+        markup.append(literals.get(literals.size() - 1));
+        staticText.append(literals.get(literals.size() - 1));
+
+        Component skeleton;
+        try {
+            String transpiled = LegacyCodeTranspiler.transpile(markup.toString());
+            skeleton = TextUtility.applyDefaults(SKELETON_PARSER.deserialize(transpiled, SLOT_RESOLVER));
+        } catch (Exception e) {
+            // Unparseable markup: keep the text as-is and leave placeholders unfilled
+            return new ComponentTemplate(prepared, TextUtility.applyDefaults(Component.text(prepared)),
+                    new String[0], new int[0], false, 0);
+        }
+
+        int staticWidth = scaled ? TextUtility.stripFormattingForLength(staticText.toString()).length() : 0;
+        return new ComponentTemplate(prepared, skeleton, keys.toArray(new String[0]), occurrences, scaled, staticWidth);
+    }
+
+    /**
+     * Get the message this template was compiled from, with {prefix} already resolved
+     *
+     * @return The source message
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get the distinct placeholder names of this template
+     *
+     * @return The placeholder names in order of first appearance
+     */
+    public List<String> getPlaceholders() {
+        return List.of(slotKeys);
+    }
+
+    /**
+     * Check whether this template has any slots to fill
+     *
+     * @return True if rendering depends on values
+     */
+    public boolean hasSlots() {
+        return slotKeys.length > 0 || scaled;
+    }
+
+    /**
+     * Render the template with text values
+     * Values are inserted as literal text, so formatting codes in values are not interpreted
+     *
+     * @param replacements Key-value pairs, e.g. "player", name
+     * @return The rendered component
+     */
+    public Component render(String... replacements) {
+        if (!hasSlots()) {
+            return skeleton;
+        }
+
+        Component[] values = new Component[slotKeys.length + 1];
+        int valueWidth = 0;
+
+        for (int slot = 0; slot < slotKeys.length; slot++) {
+            String value = lookup(slotKeys[slot], replacements);
+            if (value == null) {
+                value = "{" + slotKeys[slot] + "}";
+            }
+            values[slot] = Component.text(value);
+            valueWidth += value.length() * occurrences[slot];
+        }
+
+        return fill(values, valueWidth);
+    }
+
+    /**
+     * Render the template with component values
+     * Missing values leave their {placeholder} text in place
+     *
+     * @param replacements Map of placeholder names to value components
+     * @return The rendered component
+     */
+    public Component render(Map<String, ? extends ComponentLike> replacements) {
+        if (!hasSlots()) {
+            return skeleton;
+        }
+
+        Component[] values = new Component[slotKeys.length + 1];
+        int valueWidth = 0;
+
+        for (int slot = 0; slot < slotKeys.length; slot++) {
+            ComponentLike value = replacements != null ? replacements.get(slotKeys[slot]) : null;
+            Component component = value != null ? value.asComponent() : Component.text("{" + slotKeys[slot] + "}");
+            values[slot] = component;
+            if (scaled) {
+                valueWidth += plainLength(component) * occurrences[slot];
+            }
+        }
+
+        return fill(values, valueWidth);
+    }
+
+    /**
+     * Put the separator into the last slot and swap all markers in the skeleton
+     */
+    private Component fill(Component[] values, int valueWidth) {
+        if (scaled) {
+            int padding = TextUtility.scaledSeparatorPadding(staticWidth + valueWidth);
+            values[slotKeys.length] = Component.text(" ".repeat(padding), SEPARATOR_STYLE);
+        }
+        return replaceSlots(skeleton, values);
+    }
+
+    /**
+     * Recursively replace slot markers, copying only the branches that contain a slot
+     */
+    private static Component replaceSlots(Component component, Component[] values) {
+        int slot = slotIndex(component);
+        if (slot >= 0) {
+            return slot < values.length && values[slot] != null ? values[slot] : Component.empty();
+        }
+
+        List<Component> children = component.children();
+        if (children.isEmpty()) {
+            return component;
+        }
+
+        List<Component> replaced = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component filled = replaceSlots(child, values);
+            if (filled != child) {
+                if (replaced == null) {
+                    replaced = new ArrayList<>(children);
+                }
+                replaced.set(i, filled);
+            }
+        }
+
+        return replaced == null ? component : component.children(replaced);
+    }
+
+    /**
+     * Create the marker component for a slot
+     */
+    private static Component slotMarker(int slot) {
+        return Component.text("", Style.style().insertion(SLOT_INSERTION + slot).build());
+    }
+
+    /**
+     * Get the slot a marker stands for
+     *
+     * @return The slot index, or -1 if the component is not a marker
+     */
+    private static int slotIndex(Component component) {
+        String insertion = component.style().insertion();
+        if (insertion == null || !insertion.startsWith(SLOT_INSERTION)) {
+            return -1;
+        }
+        return Integer.parseInt(insertion, SLOT_INSERTION.length(), insertion.length(), 10);
+    }
+
+    /**
+     * Find the value for a key in a key-value pair array
+     */
+    private static String lookup(String key, String[] replacements) {
+        if (replacements == null) {
+            return null;
+        }
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (key.equals(replacements[i])) {
+                return replacements[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Count the visible characters of a component tree
+     */
+    private static int plainLength(Component component) {
+        int length = component instanceof TextComponent ? ((TextComponent) component).content().length() : 0;
+        for (Component child : component.children()) {
+            length += plainLength(child);
+        }
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentTemplate[" + source + "]";
+    }
+}
\ No newline at end of file
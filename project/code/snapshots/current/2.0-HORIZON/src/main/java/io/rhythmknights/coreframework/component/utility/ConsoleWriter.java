@@ -0,0 +1,278 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dedicated console sink for TextUtility
+ * Console messages are queued and rendered and written by a single daemon thread, so a slow terminal
+ * or piped log collector never blocks the thread that sent the message. A single writer keeps the
+ * output in submission order.
+ *
+ * When the queue is full the overflow policy decides: DROP discards the message immediately,
+ * BLOCK waits up to the block timeout for space and then discards it.
+ */
+public final class ConsoleWriter {
+
+    /**
+     * What happens to a message when the queue is full
+     */
+    public enum OverflowPolicy {
+        /** Discard the message immediately */
+        DROP,
+        /** Wait up to the block timeout for space, then discard the message */
+        BLOCK;
+
+        /**
+         * Parse a policy name, falling back to DROP for unknown values
+         *
+         * @param name The policy name, case-insensitive
+         * @return The policy
+         */
+        public static OverflowPolicy fromString(String name) {
+            if (name != null && name.trim().toUpperCase(Locale.ROOT).equals(BLOCK.name())) {
+                return BLOCK;
+            }
+            return DROP;
+        }
+    }
+
+    // Queued by close() so the writer stops once everything before it was written
+    private static final Object END = new Object();
+
+    private final ArrayBlockingQueue<Object> queue;
+    private final OverflowPolicy policy;
+    private final long blockTimeoutNanos;
+
+    private final LongAdder written;
+    private final LongAdder dropped;
+
+    private Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Create a new console writer
+     *
+     * @param capacity The maximum number of queued messages
+     * @param policy What happens to a message when the queue is full
+     * @param blockTimeoutMillis How long the BLOCK policy waits for space
+     */
+    public ConsoleWriter(int capacity, OverflowPolicy policy, long blockTimeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.policy = policy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, blockTimeoutMillis));
+        this.written = new LongAdder();
+        this.dropped = new LongAdder();
+    }
+
+    /**
+     * Start the writer thread
+     */
+    public synchronized void start() {
+        if (thread == null) {
+            thread = new Thread(this::run, "CoreFramework-Console");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queue a raw message, processed and rendered on the writer thread
+     *
+     * @param message The raw message
+     * @return True if the message was queued
+     */
+    public boolean submit(String message) {
+        return enqueue(message);
+    }
+
+    /**
+     * Queue a block of raw lines, written to the console as one write
+     *
+     * @param lines The raw lines
+     * @return True if the block was queued
+     */
+    public boolean submitBlock(List<String> lines) {
+        return enqueue(new ArrayList<>(lines));
+    }
+
+    /**
+     * Queue an already rendered component
+     *
+     * @param component The component
+     * @return True if the component was queued
+     */
+    public boolean submit(Component component) {
+        return enqueue(component);
+    }
+
+    /**
+     * Stop accepting messages and write everything still queued
+     * Waits up to the timeout for the writer thread; when the timeout passes the writer is interrupted
+     * and whatever it did not reach is written on the calling thread
+     *
+     * @param timeoutMillis How long to wait for the writer thread
+     */
+    public void close(long timeoutMillis) {
+        Thread writer;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writer = thread;
+        }
+
+        if (writer != null) {
+            // Queueing the end marker and waiting for the writer share one deadline, so a stalled console cannot hold up shutdown
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1L, timeoutMillis));
+            try {
+                boolean ended = false;
+                long remaining;
+                while (!ended && writer.isAlive() && (remaining = deadline - System.nanoTime()) > 0L) {
+                    ended = queue.offer(END, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(10L)), TimeUnit.NANOSECONDS);
+                }
+                remaining = deadline - System.nanoTime();
+                if (ended && remaining > 0L) {
+                    TimeUnit.NANOSECONDS.timedJoin(writer, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer.isAlive()) {
+                writer.interrupt();
+            }
+        }
+
+        // Anything the writer did not get to is written here so no output is lost on shutdown
+        Object entry;
+        while ((entry = queue.poll()) != null) {
+            if (entry != END) {
+                write(entry);
+            }
+        }
+    }
+
+    /**
+     * Get the number of messages waiting to be written
+     *
+     * @return The queue size
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of messages written to the console
+     *
+     * @return The written count
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Get the number of messages dropped because the queue was full
+     *
+     * @return The dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get the overflow policy
+     *
+     * @return The policy
+     */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Check whether the writer was closed
+     *
+     * @return True once {@link #close(long)} was called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Add an entry to the queue, applying the overflow policy when it is full
+     */
+    private boolean enqueue(Object entry) {
+        if (closed) {
+            return false;
+        }
+        if (queue.offer(entry)) {
+            return true;
+        }
+
+        if (policy == OverflowPolicy.BLOCK && blockTimeoutNanos > 0L) {
+            try {
+                if (queue.offer(entry, blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Write queued entries until the end marker arrives
+     */
+    private void run() {
+        try {
+            while (true) {
+                Object entry = queue.take();
+                if (entry == END) {
+                    return;
+                }
+                write(entry);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Render an entry and write it to the console
+     */
+    @SuppressWarnings("unchecked")
+    private void write(Object entry) {
+        String output;
+        if (entry instanceof String) {
+            output = TextUtility.render(TextUtility.processMessage((String) entry)).legacy();
+        } else if (entry instanceof Component) {
+            output = TextUtility.serializeLegacy((Component) entry);
+        } else {
+            output = TextUtility.renderConsoleBlock((List<String>) entry);
+        }
+
+        try {
+            Bukkit.getConsoleSender().sendMessage(output);
+            written.increment();
+        } catch (RuntimeException e) {
+            // The console is gone (e.g. during shutdown), fall back to standard output
+            System.out.println(output);
+            written.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConsoleWriter[policy=" + policy + ", queued=" + queue.size() + ", written=" + written.sum() + ", dropped=" + dropped.sum() + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package io.rhythmknights.coreframework.component.utility;
+
+/**
+ * Classifies messages by the kind of formatting they contain
+ * Lets TextUtility route each message to the cheapest parser that can handle it. A message is only classified
+ * as legacy when a legacy serializer renders it exactly like the transpiler and MiniMessage would: the legacy
+ * serializers drop decorations at the next color code, put leading italics where the defaults undo them and read
+ * uppercase and &amp;x codes, MiniMessage does none of that.
+ */
+public final class FormatClassifier {
+
+    /**
+     * Private constructor to prevent instantiation of utility class
+     */
+    private FormatClassifier() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * The formatting found in a message
+     */
+    public enum Format {
+        /** No formatting at all, the message can be used as literal text */
+        PLAIN,
+        /** Only lowercase ampersand legacy codes (&amp;a, &amp;#RRGGBB), no italics and no decoration code before a color code */
+        LEGACY_AMPERSAND,
+        /** Only lowercase section legacy codes (§a), no italics and no decoration code before a color code */
+        LEGACY_SECTION,
+        /** MiniMessage tags without legacy codes */
+        MINI_MESSAGE,
+        /** MiniMessage tags combined with legacy codes, both kinds of legacy codes, or legacy codes only MiniMessage reads right */
+        MIXED
+    }
+
+    private static final int AMPERSAND_CODES = 1;
+    private static final int SECTION_CODES = 1 << 1;
+    private static final int MARKUP = 1 << 2;
+    // Legacy codes a legacy serializer would render differently from the transpiler and MiniMessage
+    private static final int AMBIGUOUS_CODES = 1 << 3;
+
+    /**
+     * Classify a message in a single pass without allocating
+     *
+     * @param message The message to classify
+     * @return The kind of formatting the message contains
+     */
+    public static Format classify(String message) {
+        if (message == null) {
+            return Format.PLAIN;
+        }
+
+        int flags = 0;
+        int length = message.length();
+        // Whether a decoration is active; MiniMessage keeps it past a color code, a legacy serializer does not
+        boolean decorated = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+
+            switch (c) {
+                case '<':
+                case '\\':
+                    // Any tag opener or escape needs MiniMessage to interpret it
+                    flags |= MARKUP;
+                    break;
+                case '&':
+                    if (i + 1 < length) {
+                        char code = message.charAt(i + 1);
+                        if (code == '#' && LegacyCodeTranspiler.isHexColor(message, i + 2, length)) {
+                            flags |= AMPERSAND_CODES;
+                            if (decorated) {
+                                flags |= AMBIGUOUS_CODES;
+                            }
+                        } else if (LegacyCodeTranspiler.isFormattingCode(code)) {
+                            flags |= AMPERSAND_CODES;
+                            decorated = track(code, decorated);
+                            if (isAmbiguous(code, decorated)) {
+                                flags |= AMBIGUOUS_CODES;
+                            }
+                        } else if (isLegacyCodeInAnyCase(code)) {
+                            // The transpiler keeps &C and &x as text, the ampersand serializer would not
+                            flags |= AMBIGUOUS_CODES;
+                        }
+                    }
+                    break;
+                case '§':
+                    if (i + 1 < length && LegacyCodeTranspiler.isFormattingCode(message.charAt(i + 1))) {
+                        char code = message.charAt(i + 1);
+                        flags |= SECTION_CODES;
+                        decorated = track(code, decorated);
+                        if (isAmbiguous(code, decorated)) {
+                            flags |= AMBIGUOUS_CODES;
+                        }
+                    } else {
+                        // MiniMessage rejects any other § code, only the full parser's fallback knows how to handle it
+                        flags |= AMBIGUOUS_CODES;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if ((flags & AMBIGUOUS_CODES) != 0) {
+            return Format.MIXED;
+        }
+
+        switch (flags) {
+            case 0:
+                return Format.PLAIN;
+            case AMPERSAND_CODES:
+                return Format.LEGACY_AMPERSAND;
+            case SECTION_CODES:
+                return Format.LEGACY_SECTION;
+            case MARKUP:
+                return Format.MINI_MESSAGE;
+            default:
+                return Format.MIXED;
+        }
+    }
+
+    /**
+     * Update whether a decoration is active after a formatting code
+     * Color codes leave it as it is, decoration codes set it and the reset code clears it
+     */
+    private static boolean track(char code, boolean decorated) {
+        if (code == 'r') {
+            return false;
+        }
+        return decorated || !isColorCode(code);
+    }
+
+    /**
+     * Check whether a legacy serializer would render a formatting code differently from MiniMessage
+     * A color code while a decoration is active would end the decoration, and an italic code may land on the
+     * root component, where the defaults turn italics off again
+     */
+    private static boolean isAmbiguous(char code, boolean decorated) {
+        return code == 'o' || (decorated && isColorCode(code));
+    }
+
+    /**
+     * Check whether a formatting code is a color code (0-9, a-f)
+     */
+    private static boolean isColorCode(char code) {
+        return (code >= '0' && code <= '9') || (code >= 'a' && code <= 'f');
+    }
+
+    /**
+     * Check whether a character is a legacy code in any case, including the x of the repeated hex format
+     */
+    private static boolean isLegacyCodeInAnyCase(char code) {
+        char lower = Character.toLowerCase(code);
+        return lower == 'x' || LegacyCodeTranspiler.isFormattingCode(lower);
+    }
+}
\ No newline at end of file
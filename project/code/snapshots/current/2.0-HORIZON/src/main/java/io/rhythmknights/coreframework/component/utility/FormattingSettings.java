@@ -0,0 +1,90 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Immutable snapshot of the configuration values used while formatting messages
+ * TextUtility holds the current snapshot in a volatile field and swaps it as a whole on reload,
+ * so the message path never touches the YAML configuration
+ */
+public final class FormattingSettings {
+
+    /**
+     * Settings used before the framework has loaded its configuration
+     */
+    public static final FormattingSettings DEFAULTS = new FormattingSettings(true, "[CoreFramework]", 60, 2);
+
+    private final boolean prefixEnabled;
+    private final String prefix;
+    private final int lineLength;
+    private final int minPadding;
+
+    /**
+     * Create a new settings snapshot
+     *
+     * @param prefixEnabled Whether {prefix} is replaced with the prefix or removed
+     * @param prefix The prefix text
+     * @param lineLength The total line length for scaled separators
+     * @param minPadding The minimum separator padding
+     */
+    public FormattingSettings(boolean prefixEnabled, String prefix, int lineLength, int minPadding) {
+        this.prefixEnabled = prefixEnabled;
+        this.prefix = prefix;
+        this.lineLength = lineLength;
+        this.minPadding = minPadding;
+    }
+
+    /**
+     * Compile the settings from the framework configurations
+     *
+     * @param internalConfig The internal framework configuration
+     * @param languageConfig The language configuration
+     * @return The settings snapshot
+     */
+    public static FormattingSettings fromConfig(YamlConfiguration internalConfig, YamlConfiguration languageConfig) {
+        boolean prefixEnabled = internalConfig == null || internalConfig.getBoolean("prefix.enabled", true);
+        String prefix = languageConfig != null ? languageConfig.getString("prefix", DEFAULTS.prefix) : DEFAULTS.prefix;
+        int lineLength = internalConfig != null ? internalConfig.getInt("formatting.line_length", DEFAULTS.lineLength) : DEFAULTS.lineLength;
+        int minPadding = internalConfig != null ? internalConfig.getInt("formatting.min_padding", DEFAULTS.minPadding) : DEFAULTS.minPadding;
+
+        return new FormattingSettings(prefixEnabled, prefix, lineLength, minPadding);
+    }
+
+    /**
+     * Check if the prefix is enabled
+     * @return True if {prefix} is replaced, false if it is removed
+     */
+    public boolean isPrefixEnabled() {
+        return prefixEnabled;
+    }
+
+    /**
+     * Get the prefix text
+     * @return The prefix
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Get the total line length for scaled separators
+     * @return The line length
+     */
+    public int getLineLength() {
+        return lineLength;
+    }
+
+    /**
+     * Get the minimum separator padding
+     * @return The minimum padding
+     */
+    public int getMinPadding() {
+        return minPadding;
+    }
+
+    @Override
+    public String toString() {
+        return "FormattingSettings[prefixEnabled=" + prefixEnabled + ", prefix=" + prefix
+            + ", lineLength=" + lineLength + ", minPadding=" + minPadding + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of rendered item display names and lore
+ * Maps a template and its arguments to a ready-to-apply, immutable list of components, so opening
+ * the same menu again costs one lookup per item instead of one parse per line.
+ * Bounded by entry count and by the estimated memory of the cached components.
+ */
+public final class ItemTextCache {
+
+    // Rough per-component overhead (component, style and list objects) used by the size estimate
+    private static final long COMPONENT_OVERHEAD_BYTES = 96L;
+
+    private static final String[] NO_REPLACEMENTS = new String[0];
+
+    private final BoundedCache<Key, List<Component>> cache;
+
+    /**
+     * Create a new item text cache
+     *
+     * @param maximumSize The maximum number of cached names and lore blocks
+     * @param maximumBytes The maximum estimated memory of all cached components
+     */
+    public ItemTextCache(int maximumSize, long maximumBytes) {
+        this.cache = new BoundedCache<>(maximumSize, 0L, maximumBytes, ItemTextCache::estimateBytes);
+    }
+
+    /**
+     * Get the rendered display name for a template
+     *
+     * @param template The raw name template, null renders as an empty name
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The rendered name
+     */
+    public Component name(String template, String... replacements) {
+        String line = template != null ? template : "";
+        String[] values = copy(replacements);
+        return cache.get(new Key(line, values), key -> List.of(renderLine(line, values))).get(0);
+    }
+
+    /**
+     * Get the rendered lore for a list of line templates
+     *
+     * @param templates The raw lore line templates, null lines render as empty lines
+     * @param replacements Variable replacements (key-value pairs), shared by all lines
+     * @return An immutable list of rendered lines
+     */
+    public List<Component> lore(List<String> templates, String... replacements) {
+        Objects.requireNonNull(templates, "Lore templates cannot be null");
+
+        // Copied so a caller changing its list cannot change a stored key
+        List<String> lines = new ArrayList<>(templates.size());
+        for (String template : templates) {
+            lines.add(template != null ? template : "");
+        }
+
+        String[] values = copy(replacements);
+        return cache.get(new Key(lines, values), key -> {
+            List<Component> rendered = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                rendered.add(renderLine(line, values));
+            }
+            return Collections.unmodifiableList(rendered);
+        });
+    }
+
+    /**
+     * Drop every cached name and lore block, e.g. after the language was reloaded
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Get the hit/miss/eviction counters of the cache
+     *
+     * @return The cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Get the estimated memory held by the cached components
+     *
+     * @return The estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        return cache.getWeight();
+    }
+
+    /**
+     * Copy the arguments so a caller reusing its array cannot change a stored key
+     */
+    private static String[] copy(String[] replacements) {
+        return replacements == null || replacements.length == 0 ? NO_REPLACEMENTS : replacements.clone();
+    }
+
+    /**
+     * Render a single line the same way a chat message is rendered
+     * Bypasses the parse cache, this cache already holds the result and filled-in lines would only push out chat messages
+     */
+    private static Component renderLine(String template, String[] replacements) {
+        String line = replacements.length > 0 ? TextUtility.replaceVariables(template, replacements) : template;
+        return TextUtility.parseUncached(TextUtility.processMessage(line));
+    }
+
+    /**
+     * Estimate the memory of a list of component trees
+     * Counts the text of every text component plus a fixed overhead per component
+     */
+    private static long estimateBytes(List<Component> components) {
+        long bytes = 0L;
+        for (Component component : components) {
+            bytes += estimateBytes(component);
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(Component component) {
+        long bytes = COMPONENT_OVERHEAD_BYTES;
+        if (component instanceof TextComponent) {
+            bytes += ((TextComponent) component).content().length() * 2L;
+        }
+        for (Component child : component.children()) {
+            bytes += estimateBytes(child);
+        }
+        return bytes;
+    }
+
+    /**
+     * A template (single line or list of lines) with its arguments
+     */
+    private static final class Key {
+        private final Object template;
+        private final String[] replacements;
+        private final int hash;
+
+        private Key(Object template, String[] replacements) {
+            this.template = template;
+            this.replacements = replacements;
+            this.hash = 31 * template.hashCode() + Arrays.hashCode(this.replacements);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash && template.equals(key.template) && Arrays.equals(replacements, key.replacements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package io.rhythmknights.coreframework.component.utility;
+
+/**
+ * Converts legacy formatting codes into MiniMessage tags in a single pass
+ * Handles standard codes (&amp;a, &amp;l, ...), section codes (§a, §l, ...) and legacy hex colors (&amp;#RRGGBB)
+ * Messages without any legacy codes are returned unchanged without allocating
+ */
+public final class LegacyCodeTranspiler {
+
+    /**
+     * Private constructor to prevent instantiation of utility class
+     */
+    private LegacyCodeTranspiler() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    private static final char AMPERSAND = '&';
+    private static final char SECTION = '§';
+    private static final char HEX_MARKER = '#';
+    private static final int HEX_LENGTH = 6;
+
+    // Builders larger than this are not kept around between calls
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    // MiniMessage tag for each legacy code character, indexed by the character itself
+    private static final String[] TAGS = new String[128];
+
+    static {
+        TAGS['0'] = "<black>";
+        TAGS['1'] = "<dark_blue>";
+        TAGS['2'] = "<dark_green>";
+        TAGS['3'] = "<dark_aqua>";
+        TAGS['4'] = "<dark_red>";
+        TAGS['5'] = "<dark_purple>";
+        TAGS['6'] = "<gold>";
+        TAGS['7'] = "<gray>";
+        TAGS['8'] = "<dark_gray>";
+        TAGS['9'] = "<blue>";
+        TAGS['a'] = "<green>";
+        TAGS['b'] = "<aqua>";
+        TAGS['c'] = "<red>";
+        TAGS['d'] = "<light_purple>";
+        TAGS['e'] = "<yellow>";
+        TAGS['f'] = "<white>";
+        TAGS['k'] = "<obfuscated>";
+        TAGS['l'] = "<bold>";
+        TAGS['m'] = "<strikethrough>";
+        TAGS['n'] = "<underlined>";
+        TAGS['o'] = "<italic>";
+        TAGS['r'] = "<reset>";
+    }
+
+    // Reused per thread so converting a message only allocates the resulting string
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /**
+     * Convert all legacy codes in a message to their MiniMessage equivalents
+     *
+     * @param message The message to convert
+     * @return The converted message, or the same instance if it contains no legacy codes
+     */
+    public static String transpile(String message) {
+        if (message == null) {
+            return null;
+        }
+
+        int length = message.length();
+        int index = nextMarker(message, 0, length);
+        if (index < 0) {
+            return message;
+        }
+
+        StringBuilder builder = null;
+        int copyFrom = 0;
+
+        while (index >= 0 && index < length - 1) {
+            char marker = message.charAt(index);
+            char code = message.charAt(index + 1);
+
+            String replacement = null;
+            int consumed = 2;
+
+            if (marker == AMPERSAND && code == HEX_MARKER && isHexColor(message, index + 2, length)) {
+                consumed = 2 + HEX_LENGTH;
+            } else if (code < TAGS.length) {
+                replacement = TAGS[code];
+            }
+
+            if (replacement != null || consumed > 2) {
+                if (builder == null) {
+                    builder = BUILDER.get();
+                    builder.setLength(0);
+                }
+
+                builder.append(message, copyFrom, index);
+                if (replacement != null) {
+                    builder.append(replacement);
+                } else {
+                    builder.append('<').append(message, index + 1, index + consumed).append('>');
+                }
+
+                copyFrom = index + consumed;
+                index = nextMarker(message, copyFrom, length);
+            } else {
+                index = nextMarker(message, index + 1, length);
+            }
+        }
+
+        // Markers were present, but none of them started a legacy code
+        if (builder == null) {
+            return message;
+        }
+
+        builder.append(message, copyFrom, length);
+        String result = builder.toString();
+
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.set(new StringBuilder(256));
+        }
+
+        return result;
+    }
+
+    /**
+     * Check whether a character following a legacy marker is a known formatting code
+     *
+     * @param code The character after the marker
+     * @return True if the character is a legacy color or decoration code
+     */
+    static boolean isFormattingCode(char code) {
+        return code < TAGS.length && TAGS[code] != null;
+    }
+
+    /**
+     * Find the next legacy code marker (&amp; or §)
+     *
+     * @return The index of the marker, or -1 if there is none
+     */
+    private static int nextMarker(String message, int from, int length) {
+        for (int i = from; i < length; i++) {
+            char c = message.charAt(i);
+            if (c == AMPERSAND || c == SECTION) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether six hex digits start at the given index
+     *
+     * @param message The message to check
+     * @param start The index of the first hex digit
+     * @param length The length of the message
+     * @return True if a complete hex color follows
+     */
+    static boolean isHexColor(String message, int start, int length) {
+        if (start + HEX_LENGTH > length) {
+            return false;
+        }
+
+        for (int i = start; i < start + HEX_LENGTH; i++) {
+            char c = message.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses identical messages sent to the same player within a window of ticks
+ * In merge mode messages are held until the window ends and each distinct message is sent once,
+ * with a repeat count when it was sent more than once. Otherwise the first message goes out
+ * immediately and identical ones are dropped until the window ends.
+ *
+ * Used by TextUtility on the main thread only; messages sent from other threads bypass coalescing.
+ */
+public final class MessageCoalescer {
+
+    private final Plugin plugin;
+    private final int windowTicks;
+    private final boolean merge;
+    private final String mergeSuffix;
+    private final int maxTracked;
+
+    private final Map<UUID, RecipientWindow> windows;
+
+    private final LongAdder passed;
+    private final LongAdder suppressed;
+    private final LongAdder merged;
+
+    private BukkitTask windowTask;
+
+    /**
+     * Create a new coalescer
+     *
+     * @param plugin The plugin used to schedule the window task
+     * @param windowTicks The window length in ticks
+     * @param merge Whether duplicates are merged into one line with a repeat count
+     * @param mergeSuffix The text appended to merged lines, {count} is replaced with the repeat count
+     * @param maxTracked The number of distinct messages tracked per player per window
+     */
+    public MessageCoalescer(Plugin plugin, int windowTicks, boolean merge, String mergeSuffix, int maxTracked) {
+        this.plugin = plugin;
+        this.windowTicks = Math.max(1, windowTicks);
+        this.merge = merge;
+        this.mergeSuffix = mergeSuffix != null ? mergeSuffix : "";
+        this.maxTracked = Math.max(1, maxTracked);
+        this.windows = new HashMap<>();
+        this.passed = new LongAdder();
+        this.suppressed = new LongAdder();
+        this.merged = new LongAdder();
+    }
+
+    /**
+     * Start closing windows every windowTicks ticks
+     */
+    public void start() {
+        if (windowTask == null || windowTask.isCancelled()) {
+            windowTask = Bukkit.getScheduler().runTaskTimer(plugin, this::endWindow, windowTicks, windowTicks);
+        }
+    }
+
+    /**
+     * Stop the window task and send everything still held
+     * Must be called from the main thread
+     */
+    public void stop() {
+        if (windowTask != null) {
+            windowTask.cancel();
+            windowTask = null;
+        }
+        endWindow();
+        windows.clear();
+    }
+
+    /**
+     * Offer a message for a player
+     *
+     * @param player The receiving player
+     * @param message The processed message, either a String or a Component
+     */
+    void offer(Player player, Object message) {
+        UUID id = player.getUniqueId();
+        RecipientWindow window = windows.get(id);
+        if (window == null) {
+            window = new RecipientWindow(player, maxTracked);
+            windows.put(id, window);
+        } else {
+            // Keep the latest handle in case the player reconnected within the window
+            window.player = player;
+        }
+
+        int hash = message.hashCode();
+        int slot = window.indexOf(hash, message);
+        if (slot >= 0) {
+            window.counts[slot]++;
+            suppressed.increment();
+            return;
+        }
+
+        if (window.size < maxTracked) {
+            window.add(hash, message);
+        } else if (merge) {
+            // Out of slots: send what this player has collected so far and start over
+            window.flush(this);
+            window.add(hash, message);
+        } else {
+            window.replaceOldest(hash, message);
+        }
+
+        if (!merge) {
+            passed.increment();
+            TextUtility.dispatchToPlayer(player, message);
+        }
+    }
+
+    /**
+     * Close the current window for every player
+     * Players that received nothing during the window are forgotten
+     */
+    private void endWindow() {
+        Iterator<RecipientWindow> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            RecipientWindow window = iterator.next();
+            if (window.size == 0) {
+                iterator.remove();
+            } else if (merge) {
+                window.flush(this);
+            } else {
+                window.reset();
+            }
+        }
+    }
+
+    /**
+     * Send a held message, with the repeat count appended when it was sent more than once
+     */
+    private void send(Player player, Object message, int count) {
+        if (!player.isOnline()) {
+            return;
+        }
+
+        passed.increment();
+        if (count > 1) {
+            merged.increment();
+            TextUtility.dispatchToPlayer(player, TextUtility.appendSuffix(message, mergeSuffix.replace("{count}", Integer.toString(count))));
+        } else {
+            TextUtility.dispatchToPlayer(player, message);
+        }
+    }
+
+    /**
+     * Get the number of messages that were actually sent
+     *
+     * @return The passed count
+     */
+    public long getPassedCount() {
+        return passed.sum();
+    }
+
+    /**
+     * Get the number of duplicate messages that were collapsed
+     *
+     * @return The suppressed count
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Get the number of lines sent with a repeat count
+     *
+     * @return The merged count
+     */
+    public long getMergedCount() {
+        return merged.sum();
+    }
+
+    /**
+     * The messages one player received during the current window
+     * Parallel arrays with a linear scan, since a window only ever holds a handful of distinct messages
+     */
+    private static final class RecipientWindow {
+        private Player player;
+        private final int[] hashes;
+        private final Object[] messages;
+        private final int[] counts;
+        private int size;
+        // Next slot to overwrite once the window is full and duplicates are dropped rather than merged
+        private int oldest;
+
+        private RecipientWindow(Player player, int capacity) {
+            this.player = player;
+            this.hashes = new int[capacity];
+            this.messages = new Object[capacity];
+            this.counts = new int[capacity];
+        }
+
+        /**
+         * Find the slot holding a message
+         *
+         * @return The slot index, or -1 if the message was not seen in this window
+         */
+        private int indexOf(int hash, Object message) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash && messages[i].equals(message)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void add(int hash, Object message) {
+            hashes[size] = hash;
+            messages[size] = message;
+            counts[size] = 1;
+            size++;
+        }
+
+        /**
+         * Overwrite the slot that was filled first, used when the window is full
+         */
+        private void replaceOldest(int hash, Object message) {
+            hashes[oldest] = hash;
+            messages[oldest] = message;
+            counts[oldest] = 1;
+            oldest = (oldest + 1) % hashes.length;
+        }
+
+        /**
+         * Send every held message in the order it first arrived and start a new window
+         */
+        private void flush(MessageCoalescer coalescer) {
+            for (int i = 0; i < size; i++) {
+                coalescer.send(player, messages[i], counts[i]);
+            }
+            reset();
+        }
+
+        private void reset() {
+            Arrays.fill(messages, 0, size, null);
+            size = 0;
+            oldest = 0;
+        }
+    }
+}
\ No newline at end of file
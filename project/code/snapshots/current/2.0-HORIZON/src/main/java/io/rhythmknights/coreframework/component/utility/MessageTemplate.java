@@ -0,0 +1,244 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message with its {placeholder} positions resolved once at compile time
+ * Rendering fills every placeholder in a single pass into an exactly sized builder
+ * Placeholders without a value are left in the output untouched, e.g. {prefix} or {scaled.separator}
+ */
+public final class MessageTemplate {
+
+    private static final char OPEN = '{';
+    private static final char CLOSE = '}';
+
+    private final String source;
+    // Literal text around the placeholders, always one more entry than keys
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    /**
+     * Create a compiled template
+     *
+     * @param source The original message
+     * @param literals The literal segments
+     * @param keys The placeholder names between the literal segments
+     */
+    private MessageTemplate(String source, String[] literals, String[] keys) {
+        this.source = source;
+        this.literals = literals;
+        this.keys = keys;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a message by locating all of its {placeholder} occurrences
+     *
+     * @param source The message to compile
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String source) {
+        if (source == null) {
+            source = "";
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+
+        int length = source.length();
+        int literalStart = 0;
+        int open = source.indexOf(OPEN);
+
+        while (open >= 0) {
+            int close = -1;
+            for (int i = open + 1; i < length; i++) {
+                char c = source.charAt(i);
+                if (c == CLOSE) {
+                    close = i;
+                    break;
+                }
+                if (c == OPEN) {
+                    // A nested brace restarts the placeholder at the inner position
+                    open = i;
+                }
+            }
+
+            // Unclosed brace, the rest of the message is literal text
+            if (close < 0) {
+                break;
+            }
+
+            // Empty braces are literal text as well
+            if (close > open + 1) {
+                literals.add(source.substring(literalStart, open));
+                keys.add(source.substring(open + 1, close));
+                literalStart = close + 1;
+            }
+
+            open = source.indexOf(OPEN, close + 1);
+        }
+
+        literals.add(source.substring(literalStart));
+        return new MessageTemplate(source, literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    /**
+     * Get the message this template was compiled from
+     *
+     * @return The source message
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get the number of placeholder occurrences
+     *
+     * @return The placeholder count
+     */
+    public int getPlaceholderCount() {
+        return keys.length;
+    }
+
+    /**
+     * Get the placeholder names in the order they appear
+     *
+     * @return The placeholder names, including duplicates
+     */
+    public List<String> getPlaceholders() {
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Check whether the template contains a placeholder
+     *
+     * @param key The placeholder name without braces
+     * @return True if the placeholder occurs at least once
+     */
+    public boolean hasPlaceholder(String key) {
+        for (String placeholder : keys) {
+            if (placeholder.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the literal text segments around the placeholders
+     * There is always exactly one more segment than placeholders
+     *
+     * @return The literal segments in order
+     */
+    public List<String> getLiterals() {
+        return Collections.unmodifiableList(Arrays.asList(literals));
+    }
+
+    /**
+     * Render the template with named values
+     *
+     * @param replacements Key-value pairs, e.g. "plugin", name, "version", version
+     * @return The rendered message, or the source if the pairs are incomplete
+     */
+    public String render(String... replacements) {
+        if (keys.length == 0 || replacements == null || replacements.length == 0 || replacements.length % 2 != 0) {
+            return source;
+        }
+
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = lookup(keys[i], replacements);
+        }
+        return fill(values);
+    }
+
+    /**
+     * Render the template with named values
+     *
+     * @param replacements Map of placeholder names to values
+     * @return The rendered message
+     */
+    public String render(Map<String, String> replacements) {
+        if (keys.length == 0 || replacements == null || replacements.isEmpty()) {
+            return source;
+        }
+
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = replacements.get(keys[i]);
+        }
+        return fill(values);
+    }
+
+    /**
+     * Render the template with values in placeholder order
+     * Missing trailing values leave their placeholders untouched
+     *
+     * @param values One value per placeholder occurrence
+     * @return The rendered message
+     */
+    public String renderPositional(String... values) {
+        if (keys.length == 0 || values == null || values.length == 0) {
+            return source;
+        }
+
+        if (values.length >= keys.length) {
+            return fill(values);
+        }
+        return fill(Arrays.copyOf(values, keys.length));
+    }
+
+    /**
+     * Find the value for a key in a key-value pair array
+     * The first matching pair wins, like sequential replacement did
+     */
+    private static String lookup(String key, String[] replacements) {
+        for (int i = 0; i < replacements.length; i += 2) {
+            if (key.equals(replacements[i])) {
+                return replacements[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Join literals and values into an exactly sized builder
+     * A null value writes the original {placeholder} back
+     */
+    private String fill(String[] values) {
+        int length = literalLength;
+        for (int i = 0; i < keys.length; i++) {
+            String value = values[i];
+            length += value != null ? value.length() : keys[i].length() + 2;
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            String value = values[i];
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append(OPEN).append(keys[i]).append(CLOSE);
+            }
+        }
+        builder.append(literals[keys.length]);
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate[" + source + "]";
+    }
+}
\ No newline at end of file
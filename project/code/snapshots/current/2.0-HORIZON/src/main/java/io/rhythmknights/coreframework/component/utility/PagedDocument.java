@@ -0,0 +1,375 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A long multi-line output split into pages that are rendered on demand
+ * Lines come from a lazy source and only the lines of the requested page are ever processed and parsed.
+ * Each rendered page is a single component (lines joined by newlines), so a page is one send.
+ * Rendered pages are cached per document version; call {@link #invalidate()} when the source changes.
+ */
+public final class PagedDocument {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int DEFAULT_CACHED_PAGES = 8;
+
+    private final LineSource source;
+    private final int pageSize;
+    private final String header;
+    private final String footer;
+    private final String emptyMessage;
+
+    // Keyed by version and page number, so pages rendered before an invalidation are never served again
+    private final BoundedCache<Long, Component> pageCache;
+
+    private volatile int version;
+    private volatile int countedVersion = -1;
+    private volatile int lineCount;
+
+    /**
+     * Create a document from a builder
+     */
+    private PagedDocument(Builder builder) {
+        this.source = builder.source;
+        this.pageSize = builder.pageSize;
+        this.header = builder.header;
+        this.footer = builder.footer;
+        this.emptyMessage = builder.emptyMessage;
+        this.pageCache = new BoundedCache<>(builder.cachedPages, 0L);
+    }
+
+    /**
+     * Start building a document
+     *
+     * @return A new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the number of lines in the document
+     * Counted once per version; for stream sources this is the only full pass over the lines
+     *
+     * @return The line count
+     */
+    public int getLineCount() {
+        int current = version;
+        if (countedVersion != current) {
+            lineCount = source.count();
+            countedVersion = current;
+        }
+        return lineCount;
+    }
+
+    /**
+     * Get the number of pages
+     *
+     * @return The page count, at least 1
+     */
+    public int getPageCount() {
+        return Math.max(1, (getLineCount() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Render a page, using the cached page if this version was rendered before
+     *
+     * @param page The page number, starting at 1; out-of-range numbers are clamped
+     * @return The page as a single component, lines separated by newlines
+     */
+    public Component renderPage(int page) {
+        int pages = getPageCount();
+        int number = Math.max(1, Math.min(pages, page));
+        long key = ((long) version << 32) | number;
+        return pageCache.get(key, ignored -> render(number, pages));
+    }
+
+    /**
+     * Send a page to a command sender as a single message
+     *
+     * @param sender The receiver
+     * @param page The page number, starting at 1
+     */
+    public void send(CommandSender sender, int page) {
+        TextUtility.sendMessage(sender, renderPage(page));
+    }
+
+    /**
+     * Mark the source as changed; the line count and all pages are rendered again on next use
+     */
+    public synchronized void invalidate() {
+        version++;
+        pageCache.invalidateAll();
+    }
+
+    /**
+     * Get the current document version
+     *
+     * @return The version, incremented by every invalidation
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the number of lines per page
+     *
+     * @return The page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Render the header, the page's lines and the footer into one component
+     */
+    private Component render(int page, int pages) {
+        int total = getLineCount();
+        String pageText = Integer.toString(page);
+        String pagesText = Integer.toString(pages);
+        String totalText = Integer.toString(total);
+
+        List<Component> lines = new ArrayList<>(pageSize + 2);
+        if (header != null) {
+            lines.add(renderLine(TextUtility.replaceVariables(header, "page", pageText, "pages", pagesText, "total", totalText)));
+        }
+
+        if (total == 0) {
+            if (emptyMessage != null) {
+                lines.add(renderLine(emptyMessage));
+            }
+        } else {
+            for (String line : source.page((page - 1) * pageSize, pageSize)) {
+                lines.add(renderLine(line));
+            }
+        }
+
+        if (footer != null) {
+            lines.add(renderLine(TextUtility.replaceVariables(footer, "page", pageText, "pages", pagesText, "total", totalText)));
+        }
+
+        return Component.join(JoinConfiguration.newlines(), lines);
+    }
+
+    /**
+     * Process and parse a single line like any other message
+     * Lines bypass the shared parse cache: the page cache already holds them, and
+     * thousands of one-off entries would only push frequently sent messages out
+     */
+    private static Component renderLine(String line) {
+        String processed = TextUtility.processMessage(line);
+        return processed == null || processed.isEmpty() ? Component.empty() : TextUtility.parseUncached(processed);
+    }
+
+    /**
+     * Where the lines of a document come from
+     */
+    private interface LineSource {
+        /**
+         * Count the lines
+         */
+        int count();
+
+        /**
+         * Get the lines of a page
+         */
+        List<String> page(int from, int size);
+    }
+
+    /**
+     * Builds a {@link PagedDocument}
+     */
+    public static final class Builder {
+        private LineSource source = new ListSource(List.of());
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private int cachedPages = DEFAULT_CACHED_PAGES;
+        private String header;
+        private String footer;
+        private String emptyMessage;
+
+        private Builder() {
+        }
+
+        /**
+         * Use a list of lines; the list is read when pages are rendered, not copied
+         *
+         * @param lines The lines
+         * @return This builder
+         */
+        public Builder lines(List<String> lines) {
+            this.source = new ListSource(lines);
+            return this;
+        }
+
+        /**
+         * Use indexed lines that are only produced for the page being rendered
+         *
+         * @param count The number of lines
+         * @param line Produces the line at an index
+         * @return This builder
+         */
+        public Builder lines(int count, IntFunction<String> line) {
+            this.source = new IndexedSource(count, line);
+            return this;
+        }
+
+        /**
+         * Use a stream of lines; a new stream is requested for counting and for every rendered page
+         *
+         * @param lines Supplies a fresh stream of the lines
+         * @return This builder
+         */
+        public Builder lines(Supplier<? extends Stream<String>> lines) {
+            this.source = new StreamSource(lines);
+            return this;
+        }
+
+        /**
+         * Set the number of lines per page
+         *
+         * @param pageSize The page size
+         * @return This builder
+         */
+        public Builder pageSize(int pageSize) {
+            this.pageSize = Math.max(1, pageSize);
+            return this;
+        }
+
+        /**
+         * Set how many rendered pages are kept
+         *
+         * @param cachedPages The number of cached pages
+         * @return This builder
+         */
+        public Builder cachedPages(int cachedPages) {
+            this.cachedPages = Math.max(1, cachedPages);
+            return this;
+        }
+
+        /**
+         * Set a line shown above every page; {page}, {pages} and {total} are replaced
+         *
+         * @param header The header line
+         * @return This builder
+         */
+        public Builder header(String header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Set a line shown below every page; {page}, {pages} and {total} are replaced
+         *
+         * @param footer The footer line
+         * @return This builder
+         */
+        public Builder footer(String footer) {
+            this.footer = footer;
+            return this;
+        }
+
+        /**
+         * Set the line shown when the document has no lines
+         *
+         * @param emptyMessage The empty message
+         * @return This builder
+         */
+        public Builder emptyMessage(String emptyMessage) {
+            this.emptyMessage = emptyMessage;
+            return this;
+        }
+
+        /**
+         * Build the document; nothing is rendered until a page is requested
+         *
+         * @return The document
+         */
+        public PagedDocument build() {
+            return new PagedDocument(this);
+        }
+    }
+
+    /**
+     * Lines from a list
+     */
+    private static final class ListSource implements LineSource {
+        private final List<String> lines;
+
+        private ListSource(List<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int count() {
+            return lines.size();
+        }
+
+        @Override
+        public List<String> page(int from, int size) {
+            int start = Math.min(from, lines.size());
+            return lines.subList(start, Math.min(lines.size(), start + size));
+        }
+    }
+
+    /**
+     * Lines produced by index
+     */
+    private static final class IndexedSource implements LineSource {
+        private final int count;
+        private final IntFunction<String> line;
+
+        private IndexedSource(int count, IntFunction<String> line) {
+            this.count = Math.max(0, count);
+            this.line = line;
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public List<String> page(int from, int size) {
+            int end = Math.min(count, from + size);
+            List<String> lines = new ArrayList<>(Math.max(0, end - from));
+            for (int i = from; i < end; i++) {
+                lines.add(line.apply(i));
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Lines from a stream, skipped and limited to the page
+     */
+    private static final class StreamSource implements LineSource {
+        private final Supplier<? extends Stream<String>> lines;
+
+        private StreamSource(Supplier<? extends Stream<String>> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int count() {
+            try (Stream<String> stream = lines.get()) {
+                return (int) Math.min(Integer.MAX_VALUE, stream.count());
+            }
+        }
+
+        @Override
+        public List<String> page(int from, int size) {
+            try (Stream<String> stream = lines.get()) {
+                return stream.skip(from).limit(size).collect(Collectors.toList());
+            }
+        }
+    }
+}
\ No newline at end of file
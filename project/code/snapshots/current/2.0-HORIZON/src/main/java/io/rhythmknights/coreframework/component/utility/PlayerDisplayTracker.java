@@ -0,0 +1,308 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.platform.bukkit.BukkitAudiences;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends action bars, titles and boss bars while remembering the last content sent to each player
+ * A send is skipped when the content is unchanged, so HUDs that update every tick only cost
+ * packets when something actually changes. Content is compared before it is parsed, so
+ * skipped String sends never reach the parser.
+ *
+ * Action bars fade on the client after a few seconds, so unchanged action bars are still
+ * re-sent once the refresh interval has passed. Titles are re-sent once they have faded out.
+ */
+public final class PlayerDisplayTracker {
+
+    private final Map<UUID, DisplayState> states;
+    private volatile long actionBarRefreshNanos;
+
+    private final LongAdder sent;
+    private final LongAdder skipped;
+
+    /**
+     * Create a new display tracker
+     *
+     * @param actionBarRefreshTicks Ticks after which an unchanged action bar is sent again
+     */
+    public PlayerDisplayTracker(int actionBarRefreshTicks) {
+        this.states = new ConcurrentHashMap<>();
+        this.sent = new LongAdder();
+        this.skipped = new LongAdder();
+        setActionBarRefreshTicks(actionBarRefreshTicks);
+    }
+
+    /**
+     * Set how long an unchanged action bar stays skipped
+     *
+     * @param ticks Ticks after which an unchanged action bar is sent again
+     */
+    public void setActionBarRefreshTicks(int ticks) {
+        this.actionBarRefreshNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ticks) * 50L);
+    }
+
+    /**
+     * Send an action bar unless the player already sees the same content
+     *
+     * @param player The receiving player
+     * @param content The processed message or component
+     */
+    void actionBar(Player player, Object content) {
+        Audience audience = audience(player);
+        if (audience == null) {
+            return;
+        }
+
+        DisplayState state = state(player);
+        long now = System.nanoTime();
+        synchronized (state) {
+            if (content.equals(state.actionBar) && now - state.actionBarSentAt < actionBarRefreshNanos) {
+                skipped.increment();
+                return;
+            }
+            state.actionBar = content;
+            state.actionBarSentAt = now;
+        }
+
+        audience.sendActionBar(TextUtility.toComponent(content));
+        sent.increment();
+    }
+
+    /**
+     * Show a title unless the player still sees the same title
+     *
+     * @param player The receiving player
+     * @param title The processed title or component
+     * @param subtitle The processed subtitle or component
+     * @param times The title times, or null for the client defaults
+     */
+    void title(Player player, Object title, Object subtitle, Title.Times times) {
+        Audience audience = audience(player);
+        if (audience == null) {
+            return;
+        }
+
+        Title.Times effectiveTimes = times != null ? times : Title.DEFAULT_TIMES;
+        DisplayState state = state(player);
+        long now = System.nanoTime();
+        synchronized (state) {
+            if (title.equals(state.title) && subtitle.equals(state.subtitle)
+                    && effectiveTimes.equals(state.titleTimes) && now < state.titleExpiresAt) {
+                skipped.increment();
+                return;
+            }
+            state.title = title;
+            state.subtitle = subtitle;
+            state.titleTimes = effectiveTimes;
+            state.titleExpiresAt = now + duration(effectiveTimes).toNanos();
+        }
+
+        audience.showTitle(Title.title(TextUtility.toComponent(title), TextUtility.toComponent(subtitle), effectiveTimes));
+        sent.increment();
+    }
+
+    /**
+     * Clear the title and forget it, so the next title is always sent
+     *
+     * @param player The player
+     */
+    void clearTitle(Player player) {
+        Audience audience = audience(player);
+        DisplayState state = states.get(player.getUniqueId());
+        if (state != null) {
+            synchronized (state) {
+                state.title = null;
+                state.subtitle = null;
+                state.titleTimes = null;
+                state.titleExpiresAt = 0L;
+            }
+        }
+        if (audience != null) {
+            audience.clearTitle();
+        }
+    }
+
+    /**
+     * Show the player's boss bar, creating it on first use and updating only what changed
+     *
+     * @param player The receiving player
+     * @param name The processed name or component
+     * @param progress The progress between 0 and 1
+     * @param color The bar color
+     * @param overlay The bar overlay
+     */
+    void bossBar(Player player, Object name, float progress, BossBar.Color color, BossBar.Overlay overlay) {
+        Audience audience = audience(player);
+        if (audience == null) {
+            return;
+        }
+
+        float clamped = Math.max(0.0f, Math.min(1.0f, progress));
+        DisplayState state = state(player);
+        BossBar bar;
+        boolean show = false;
+        boolean changed = false;
+
+        synchronized (state) {
+            bar = state.bossBar;
+            if (bar == null) {
+                bar = BossBar.bossBar(TextUtility.toComponent(name), clamped, color, overlay);
+                state.bossBar = bar;
+                state.bossBarName = name;
+                show = true;
+            } else {
+                // Adventure sends an update packet per changed property, so only touch what differs
+                if (!name.equals(state.bossBarName)) {
+                    bar.name(TextUtility.toComponent(name));
+                    state.bossBarName = name;
+                    changed = true;
+                }
+                if (bar.progress() != clamped) {
+                    bar.progress(clamped);
+                    changed = true;
+                }
+                if (bar.color() != color) {
+                    bar.color(color);
+                    changed = true;
+                }
+                if (bar.overlay() != overlay) {
+                    bar.overlay(overlay);
+                    changed = true;
+                }
+            }
+        }
+
+        if (show) {
+            audience.showBossBar(bar);
+            sent.increment();
+        } else if (changed) {
+            sent.increment();
+        } else {
+            skipped.increment();
+        }
+    }
+
+    /**
+     * Hide and forget the player's boss bar
+     *
+     * @param player The player
+     */
+    void hideBossBar(Player player) {
+        DisplayState state = states.get(player.getUniqueId());
+        if (state == null) {
+            return;
+        }
+
+        BossBar bar;
+        synchronized (state) {
+            bar = state.bossBar;
+            state.bossBar = null;
+            state.bossBarName = null;
+        }
+
+        Audience audience = audience(player);
+        if (bar != null && audience != null) {
+            audience.hideBossBar(bar);
+        }
+    }
+
+    /**
+     * Forget everything sent to a player, e.g. when they leave the server
+     *
+     * @param playerId The player's UUID
+     */
+    public void release(UUID playerId) {
+        states.remove(playerId);
+    }
+
+    /**
+     * Forget everything sent to every player
+     */
+    public void releaseAll() {
+        states.clear();
+    }
+
+    /**
+     * Get the number of players with tracked display state
+     *
+     * @return The tracked player count
+     */
+    public int getTrackedCount() {
+        return states.size();
+    }
+
+    /**
+     * Get the number of display updates that were sent
+     *
+     * @return The sent count
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Get the number of display updates skipped because the content was unchanged
+     *
+     * @return The skipped count
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * Get the state record of a player, creating it on first use
+     */
+    private DisplayState state(Player player) {
+        return states.computeIfAbsent(player.getUniqueId(), id -> new DisplayState());
+    }
+
+    /**
+     * Resolve the audience of a player
+     *
+     * @return The audience, or null if Adventure is not initialized
+     */
+    private static Audience audience(Player player) {
+        BukkitAudiences audiences = TextUtility.audiences();
+        return audiences != null ? audiences.player(player) : null;
+    }
+
+    /**
+     * Get how long a title stays visible
+     */
+    private static Duration duration(Title.Times times) {
+        return times.fadeIn().plus(times.stay()).plus(times.fadeOut());
+    }
+
+    /**
+     * The last content sent to a player on each channel
+     * Content is kept as it was passed in (processed String or Component) so it can be compared before parsing
+     */
+    private static final class DisplayState {
+        private Object actionBar;
+        private long actionBarSentAt;
+
+        private Object title;
+        private Object subtitle;
+        private Title.Times titleTimes;
+        private long titleExpiresAt;
+
+        private BossBar bossBar;
+        private Object bossBarName;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerDisplayTracker[tracked=" + states.size() + ", sent=" + sent.sum() + ", skipped=" + skipped.sum() + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared worker pool for rendering messages off the server main thread
+ * Uses virtual threads when the runtime supports them (Java 21+), otherwise a small fixed pool of daemon threads
+ * Workers only build components; anything touching Bukkit or the audiences is handed back to the main thread
+ */
+public final class RenderWorkers {
+
+    /**
+     * Private constructor to prevent instantiation of utility class
+     */
+    private RenderWorkers() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    private static ExecutorService executor;
+    private static boolean virtualThreads;
+
+    /**
+     * Get the worker pool, creating it on first use
+     *
+     * @return The render executor
+     */
+    public static synchronized ExecutorService executor() {
+        if (executor == null || executor.isShutdown()) {
+            executor = createVirtualThreadExecutor();
+            virtualThreads = executor != null;
+            if (executor == null) {
+                int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+                executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Check whether the workers run on virtual threads
+     *
+     * @return True if the current executor is virtual-thread based
+     */
+    public static synchronized boolean isUsingVirtualThreads() {
+        return executor != null && virtualThreads;
+    }
+
+    /**
+     * Create a virtual-thread-per-task executor through reflection, since the plugin targets Java 17
+     *
+     * @return The executor, or null if virtual threads are not available
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stop the worker pool, waiting briefly for running renders to finish
+     */
+    public static synchronized void shutdown() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Creates named daemon threads so render workers never keep the server alive
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "CoreFramework-Render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/**
+ * Every output form of a processed message, held in the parse cache
+ * Each form is computed on first use and then shared by all later sends of the same message.
+ * Forms may be computed more than once under contention, which is harmless since they are deterministic.
+ */
+public final class RenderedMessage {
+
+    private static final PlainTextComponentSerializer PLAIN_SERIALIZER = PlainTextComponentSerializer.plainText();
+
+    private final String source;
+
+    private volatile Component component;
+    private volatile String legacy;
+    private volatile String plain;
+
+    /**
+     * Create a rendered message for a processed message; nothing is parsed until a form is requested
+     *
+     * @param source The processed message
+     */
+    RenderedMessage(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Create a rendered message from an already parsed component
+     *
+     * @param source The processed message
+     * @param component The parsed component
+     */
+    RenderedMessage(String source, Component component) {
+        this.source = source;
+        this.component = component;
+    }
+
+    /**
+     * Create a rendered message outside the shared parse cache, e.g. for a cache owned by the caller
+     * Nothing is parsed until a form is requested
+     *
+     * @param message The processed message
+     * @return The rendered message
+     */
+    public static RenderedMessage of(String message) {
+        return new RenderedMessage(message == null ? "" : message);
+    }
+
+    /**
+     * Get the message this was rendered from
+     *
+     * @return The processed message
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get the parsed component with proper defaults (white, non-italic)
+     *
+     * @return The component
+     */
+    public Component component() {
+        Component result = component;
+        if (result == null) {
+            result = TextUtility.parseUncached(source);
+            component = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the message as a § legacy string, as understood by Bukkit senders
+     *
+     * @return The legacy string
+     */
+    public String legacy() {
+        String result = legacy;
+        if (result == null) {
+            result = TextUtility.serializeLegacy(component());
+            legacy = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the message without any formatting
+     *
+     * @return The plain text
+     */
+    public String plain() {
+        String result = plain;
+        if (result == null) {
+            result = PLAIN_SERIALIZER.serialize(component());
+            plain = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderedMessage[" + source + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flyweight pool of Style instances
+ * Styles are immutable, so equal styles can share one instance. The pool also remembers the
+ * defaulted (white, non-italic) version of each style it has seen, so applying defaults to
+ * a style that was already handled is a single map lookup without allocation.
+ */
+public final class StylePool {
+
+    /**
+     * Private constructor to prevent instantiation of utility class
+     */
+    private StylePool() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // Upper bound for each map; styles beyond it are still correct, just not pooled
+    private static final int MAX_POOLED = 1024;
+
+    private static final ConcurrentHashMap<Style, Style> pool = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Style, Style> defaulted = new ConcurrentHashMap<>();
+
+    /**
+     * The default message style: white and explicitly non-italic
+     */
+    public static final Style DEFAULT = intern(Style.style(NamedTextColor.WHITE, TextDecoration.ITALIC.withState(false)));
+
+    static {
+        // Pre-intern every named color without italics, these cover most legacy and MiniMessage roots
+        for (NamedTextColor color : NamedTextColor.NAMES.values()) {
+            intern(Style.style(color, TextDecoration.ITALIC.withState(false)));
+        }
+    }
+
+    /**
+     * Get the shared instance of a style
+     *
+     * @param style The style
+     * @return An equal pooled style, or the style itself if the pool is full
+     */
+    public static Style intern(Style style) {
+        Style pooled = pool.get(style);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= MAX_POOLED) {
+            return style;
+        }
+        pooled = pool.putIfAbsent(style, style);
+        return pooled != null ? pooled : style;
+    }
+
+    /**
+     * Check whether a style already carries the message defaults
+     *
+     * @param style The style
+     * @return True if the style has a color and italics explicitly disabled
+     */
+    public static boolean hasDefaults(Style style) {
+        return style.color() != null && style.decoration(TextDecoration.ITALIC) == TextDecoration.State.FALSE;
+    }
+
+    /**
+     * Get a style with the message defaults applied: italics disabled, and white if no color is set
+     *
+     * @param style The style
+     * @return The same instance if nothing changes, otherwise a pooled defaulted style
+     */
+    public static Style withDefaults(Style style) {
+        if (hasDefaults(style)) {
+            return style;
+        }
+
+        Style result = defaulted.get(style);
+        if (result != null) {
+            return result;
+        }
+
+        Style.Builder builder = style.toBuilder().decoration(TextDecoration.ITALIC, false);
+        if (style.color() == null) {
+            builder.color(NamedTextColor.WHITE);
+        }
+        result = intern(builder.build());
+
+        if (defaulted.size() < MAX_POOLED) {
+            defaulted.putIfAbsent(style, result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of pooled styles
+     *
+     * @return The pool size
+     */
+    public static int size() {
+        return pool.size();
+    }
+
+    /**
+     * Drop all pooled styles except the defaults, e.g. on reload
+     */
+    public static void clear() {
+        defaulted.clear();
+        pool.clear();
+        pool.put(DEFAULT, DEFAULT);
+    }
+}
\ No newline at end of file
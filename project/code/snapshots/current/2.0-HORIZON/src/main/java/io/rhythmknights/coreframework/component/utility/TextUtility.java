@@ -1,16 +1,22 @@
 package io.rhythmknights.coreframework.component.utility;
 
-import io.rhythmknights.coreframework.CoreFramework;
+import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 /**
  * Single Source of Truth for all message formatting and sending across RhythmKnights plugins
  * Handles both legacy and Adventure API formatting with proper defaults (white, non-italic)
@@ -28,18 +34,73 @@ public class TextUtility {
     // Initialize MiniMessage for parsing modern formatting
     private static final MiniMessage miniMessage = MiniMessage.miniMessage();
 
-    // Legacy serializer for handling & codes
+    // Legacy serializer for handling § codes
     private static final LegacyComponentSerializer legacySerializer = LegacyComponentSerializer.builder()
             .hexColors()
             .useUnusualXRepeatedCharacterHexFormat()
             .build();
 
+    // Legacy serializer for messages that only use & codes (including &#RRGGBB)
+    private static final LegacyComponentSerializer ampersandSerializer = LegacyComponentSerializer.builder()
+            .character(LegacyComponentSerializer.AMPERSAND_CHAR)
+            .hexColors()
+            .build();
+
+    // Style applied to plain text, matching what applyDefaults produces
+    private static final Style DEFAULT_STYLE = StylePool.DEFAULT;
+
     private static BukkitAudiences audiences;
+    private static Plugin owningPlugin;
+
+    // Formatting configuration snapshot, replaced as a whole when the framework (re)loads its configuration
+    private static volatile FormattingSettings settings = FormattingSettings.DEFAULTS;
+
+    // Set when async messaging is enabled; sends are then rendered off-thread and flushed once per tick
+    private static volatile AsyncMessagePipeline asyncPipeline;
+
+    // Set when message coalescing is enabled; identical player messages within a window are collapsed
+    private static volatile MessageCoalescer messageCoalescer;
+
+    // Set when the console writer is enabled; console output is then rendered and written by its own thread
+    private static volatile ConsoleWriter consoleWriter;
+    private static final long CONSOLE_CLOSE_TIMEOUT_MILLIS = 2000L;
+
+    // Rendered item names and lore keyed by template and arguments
+    private static final int DEFAULT_ITEM_CACHE_SIZE = 2048;
+    private static final long DEFAULT_ITEM_CACHE_BYTES = 4L * 1024L * 1024L;
+    private static volatile ItemTextCache itemTextCache = new ItemTextCache(DEFAULT_ITEM_CACHE_SIZE, DEFAULT_ITEM_CACHE_BYTES);
+
+    // Last action bar, title and boss bar sent to each player, used to skip unchanged HUD updates
+    private static final int DEFAULT_ACTION_BAR_REFRESH_TICKS = 40;
+    private static final PlayerDisplayTracker displayTracker = new PlayerDisplayTracker(DEFAULT_ACTION_BAR_REFRESH_TICKS);
+
+    // Number of players rendered per worker task in personalized broadcasts
+    private static final int BROADCAST_BATCH_SIZE = 64;
 
     // Constants for dynamic formatting
     private static final String PADDING_CHAR = " ";
     private static final String SCALED_SEPARATOR_MARKER = "{scaled.separator}";
 
+    // Rendered form of null and empty messages
+    private static final RenderedMessage EMPTY_MESSAGE = new RenderedMessage("", Component.empty());
+
+    // Defaults for the parse cache, used until the framework applies framework.yml
+    private static final int DEFAULT_PARSE_CACHE_SIZE = 1024;
+    private static final long DEFAULT_PARSE_CACHE_EXPIRY = 600L;
+
+    // Cache of rendered messages (component, legacy and plain forms) keyed by the processed message (null when disabled)
+    private static volatile BoundedCache<String, RenderedMessage> parseCache =
+        new BoundedCache<>(DEFAULT_PARSE_CACHE_SIZE, DEFAULT_PARSE_CACHE_EXPIRY);
+
+    // Cache of compiled placeholder templates keyed by the raw lang string
+    private static final int DEFAULT_TEMPLATE_CACHE_SIZE = 512;
+    private static volatile BoundedCache<String, MessageTemplate> templateCache =
+        new BoundedCache<>(DEFAULT_TEMPLATE_CACHE_SIZE, 0L);
+
+    // Cache of parsed component skeletons keyed by the raw lang string
+    private static volatile BoundedCache<String, ComponentTemplate> componentTemplateCache =
+        new BoundedCache<>(DEFAULT_TEMPLATE_CACHE_SIZE, 0L);
+
     /**
      * Initialize the message utility with a plugin instance
      * @param plugin The plugin instance
@@ -48,30 +109,374 @@ public class TextUtility {
         if (audiences == null) {
             audiences = BukkitAudiences.create(plugin);
         }
+        owningPlugin = plugin;
     }
 
     /**
      * Clean up resources when the plugin is disabled
      */
     public static void close() {
+        ConsoleWriter writer = consoleWriter;
+        if (writer != null) {
+            consoleWriter = null;
+            writer.close(CONSOLE_CLOSE_TIMEOUT_MILLIS);
+        }
+        MessageCoalescer coalescer = messageCoalescer;
+        if (coalescer != null) {
+            messageCoalescer = null;
+            coalescer.stop();
+        }
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            asyncPipeline = null;
+            pipeline.stop();
+        }
+        RenderWorkers.shutdown();
+        displayTracker.releaseAll();
         if (audiences != null) {
             audiences.close();
             audiences = null;
         }
     }
 
+    /**
+     * Swap in a new formatting settings snapshot
+     * Component templates resolve {prefix} when compiled, so they are dropped along with the other caches
+     *
+     * @param formattingSettings The new settings
+     */
+    public static void applySettings(FormattingSettings formattingSettings) {
+        settings = formattingSettings != null ? formattingSettings : FormattingSettings.DEFAULTS;
+        clearCaches();
+    }
+
+    /**
+     * Get the current formatting settings snapshot
+     *
+     * @return The settings in use
+     */
+    public static FormattingSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Enable or disable async messaging
+     * When enabled, messages are processed and parsed on the render workers and sent to the audiences
+     * in a batch once per tick on the main thread. Must be called after {@link #initialize(Plugin)}.
+     *
+     * @param enabled Whether async messaging should be used
+     * @param queueCapacity The maximum number of messages waiting to be sent
+     * @param flushBudgetMicros The main-thread time budget per tick in microseconds
+     */
+    public static void configureAsyncMessaging(boolean enabled, int queueCapacity, long flushBudgetMicros) {
+        AsyncMessagePipeline previous = asyncPipeline;
+        asyncPipeline = null;
+        if (previous != null) {
+            previous.stop();
+        }
+
+        if (enabled && owningPlugin != null) {
+            AsyncMessagePipeline pipeline = new AsyncMessagePipeline(owningPlugin, queueCapacity, flushBudgetMicros);
+            pipeline.start();
+            asyncPipeline = pipeline;
+        }
+    }
+
+    /**
+     * Enable or disable the dedicated console writer
+     * When enabled, console messages are rendered and written by a single background thread instead of the sender's
+     * thread. Switching writers closes the previous one, which writes everything it still had queued.
+     *
+     * @param enabled Whether console output should go through the writer thread
+     * @param queueCapacity The maximum number of queued console messages
+     * @param policy What happens to a message when the queue is full
+     * @param blockTimeoutMillis How long the BLOCK policy waits for space
+     */
+    public static void configureConsoleWriter(boolean enabled, int queueCapacity, ConsoleWriter.OverflowPolicy policy, long blockTimeoutMillis) {
+        ConsoleWriter previous = consoleWriter;
+        consoleWriter = null;
+        if (previous != null) {
+            previous.close(CONSOLE_CLOSE_TIMEOUT_MILLIS);
+        }
+
+        if (enabled) {
+            ConsoleWriter writer = new ConsoleWriter(queueCapacity, policy, blockTimeoutMillis);
+            writer.start();
+            consoleWriter = writer;
+        }
+    }
+
+    /**
+     * Get the dedicated console writer
+     *
+     * @return The writer, or null if console output is written on the sender's thread
+     */
+    public static ConsoleWriter getConsoleWriter() {
+        return consoleWriter;
+    }
+
+    /**
+     * Get the async messaging pipeline
+     *
+     * @return The pipeline, or null if async messaging is disabled
+     */
+    public static AsyncMessagePipeline getAsyncPipeline() {
+        return asyncPipeline;
+    }
+
+    /**
+     * Enable or disable coalescing of identical player messages
+     * Must be called from the main thread, after {@link #initialize(Plugin)}.
+     *
+     * @param enabled Whether identical messages to the same player should be collapsed
+     * @param windowTicks The window length in ticks
+     * @param merge Whether duplicates are merged into one line with a repeat count instead of dropped
+     * @param mergeSuffix The text appended to merged lines, {count} is replaced with the repeat count
+     * @param maxTracked The number of distinct messages tracked per player per window
+     */
+    public static void configureMessageCoalescing(boolean enabled, int windowTicks, boolean merge, String mergeSuffix, int maxTracked) {
+        MessageCoalescer previous = messageCoalescer;
+        messageCoalescer = null;
+        if (previous != null) {
+            previous.stop();
+        }
+
+        if (enabled && owningPlugin != null) {
+            MessageCoalescer coalescer = new MessageCoalescer(owningPlugin, windowTicks, merge, mergeSuffix, maxTracked);
+            coalescer.start();
+            messageCoalescer = coalescer;
+        }
+    }
+
+    /**
+     * Get the message coalescer
+     *
+     * @return The coalescer, or null if coalescing is disabled
+     */
+    public static MessageCoalescer getMessageCoalescer() {
+        return messageCoalescer;
+    }
+
+    /**
+     * Configure the action bar, title and boss bar channels
+     *
+     * @param actionBarRefreshTicks Ticks after which an unchanged action bar is sent again, before the client fades it
+     */
+    public static void configureDisplay(int actionBarRefreshTicks) {
+        displayTracker.setActionBarRefreshTicks(actionBarRefreshTicks);
+    }
+
+    /**
+     * Get the tracker of action bars, titles and boss bars sent to players
+     *
+     * @return The display tracker
+     */
+    public static PlayerDisplayTracker getDisplayTracker() {
+        return displayTracker;
+    }
+
+    /**
+     * Get the Adventure audiences for components that dispatch on the main thread
+     *
+     * @return The audiences, or null if not initialized
+     */
+    static BukkitAudiences audiences() {
+        return audiences;
+    }
+
+    /**
+     * Configure the parse cache
+     * Replaces the current cache, so any previously cached components are dropped
+     *
+     * @param enabled Whether parsed components should be cached
+     * @param maximumSize The maximum number of cached components
+     * @param expireAfterSeconds Seconds before a cached component is parsed again (0 to disable)
+     */
+    public static void configureParseCache(boolean enabled, int maximumSize, long expireAfterSeconds) {
+        parseCache = enabled ? new BoundedCache<>(maximumSize, expireAfterSeconds) : null;
+    }
+
+    /**
+     * Configure the compiled template cache
+     * Replaces the current cache, so any previously compiled templates are dropped
+     *
+     * @param maximumSize The maximum number of compiled templates
+     */
+    public static void configureTemplateCache(int maximumSize) {
+        templateCache = new BoundedCache<>(maximumSize, 0L);
+        componentTemplateCache = new BoundedCache<>(maximumSize, 0L);
+    }
+
+    /**
+     * Configure the item name and lore cache
+     * Replaces the current cache, so any previously rendered item text is dropped
+     *
+     * @param maximumSize The maximum number of cached names and lore blocks
+     * @param maximumBytes The maximum estimated memory of the cached components
+     */
+    public static void configureItemCache(int maximumSize, long maximumBytes) {
+        itemTextCache = new ItemTextCache(maximumSize, maximumBytes);
+    }
+
+    /**
+     * Get the item name and lore cache
+     *
+     * @return The item text cache
+     */
+    public static ItemTextCache getItemTextCache() {
+        return itemTextCache;
+    }
+
+    /**
+     * Get a rendered item display name, rendering it only the first time a template and arguments are seen
+     *
+     * @param template The raw name template
+     * @param replacements Variable replacements (key-value pairs)
+     * @return The display name with proper defaults (white, non-italic)
+     */
+    public static Component itemName(String template, String... replacements) {
+        return itemTextCache.name(template, replacements);
+    }
+
+    /**
+     * Get rendered item lore, rendering it only the first time the templates and arguments are seen
+     *
+     * @param templates The raw lore line templates
+     * @param replacements Variable replacements (key-value pairs), shared by all lines
+     * @return An immutable list of lore lines with proper defaults (white, non-italic)
+     */
+    public static List<Component> itemLore(List<String> templates, String... replacements) {
+        return itemTextCache.lore(templates, replacements);
+    }
+
+    /**
+     * Get the compiled template for a message, compiling it on first use
+     *
+     * @param message The message containing {placeholder} variables
+     * @return The compiled template
+     */
+    public static MessageTemplate template(String message) {
+        return templateCache.get(message, MessageTemplate::compile);
+    }
+
+    /**
+     * Get the component template for a message, parsing it into a skeleton on first use
+     * Use this for per-player messages: the markup is parsed once and only the values change per render
+     *
+     * @param message The raw lang message containing {placeholder} variables
+     * @return The compiled component template
+     */
+    public static ComponentTemplate componentTemplate(String message) {
+        return componentTemplateCache.get(message, ComponentTemplate::compile);
+    }
+
+    /**
+     * Drop all cached components, e.g. after the language configuration changed
+     */
+    public static void clearParseCache() {
+        BoundedCache<String, RenderedMessage> cache = parseCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Drop all cached components and compiled templates, e.g. after the language configuration changed
+     */
+    public static void clearCaches() {
+        clearParseCache();
+        itemTextCache.invalidateAll();
+        templateCache.invalidateAll();
+        componentTemplateCache.invalidateAll();
+    }
+
+    /**
+     * Get the hit/miss/eviction counters of the parse cache
+     *
+     * @return The cache statistics, or empty statistics if caching is disabled
+     */
+    public static CacheStatistics getParseCacheStatistics() {
+        BoundedCache<String, RenderedMessage> cache = parseCache;
+        return cache != null ? cache.getStatistics() : new CacheStatistics(0, 0, 0, 0);
+    }
+
     /**
      * Parse a message to a Component with proper defaults (white, non-italic).
      * Supports both legacy (&) and MiniMessage formats with hex colors, including mixed formats.
+     * Results are cached, so repeated messages only cost a map lookup.
      *
      * @param message The message to parse
      * @return The parsed Component with proper defaults
      */
     public static Component parse(String message) {
+        return render(message).component();
+    }
+
+    /**
+     * Get the cached output forms of a processed message
+     * The component, legacy and plain forms are each computed on first use and shared by later sends
+     *
+     * @param message The processed message
+     * @return The rendered message
+     */
+    public static RenderedMessage render(String message) {
         if (message == null || message.isEmpty()) {
-            return Component.empty();
+            return EMPTY_MESSAGE;
+        }
+
+        // Components and their serialized forms are immutable, so a cached instance can be shared by every recipient
+        BoundedCache<String, RenderedMessage> cache = parseCache;
+        if (cache != null) {
+            return cache.get(message, RenderedMessage::new);
+        }
+
+        return new RenderedMessage(message);
+    }
+
+    /**
+     * Parse a message without consulting the parse cache
+     * Each message is routed to the cheapest parser that understands its formatting
+     *
+     * @param message The message to parse
+     * @return The parsed Component with proper defaults
+     */
+    static Component parseUncached(String message) {
+        switch (FormatClassifier.classify(message)) {
+            case PLAIN:
+                // Nothing to interpret, skip the parsers entirely
+                return Component.text(message, DEFAULT_STYLE);
+            case LEGACY_AMPERSAND:
+                return parseLegacy(ampersandSerializer, message);
+            case LEGACY_SECTION:
+                return parseLegacy(legacySerializer, message);
+            default:
+                return parseFull(message);
+        }
+    }
+
+    /**
+     * Parse a legacy-only message with the given serializer
+     *
+     * @param serializer The serializer matching the message's legacy character
+     * @param message The message to parse
+     * @return The parsed Component with proper defaults
+     */
+    private static Component parseLegacy(LegacyComponentSerializer serializer, String message) {
+        try {
+            return applyDefaults(serializer.deserialize(message));
+        } catch (Exception e) {
+            return applyDefaults(Component.text(message));
         }
+    }
 
+    /**
+     * Parse a message through the legacy transpiler and MiniMessage
+     * Handles any combination of legacy and MiniMessage formatting
+     *
+     * @param message The message to parse
+     * @return The parsed Component with proper defaults
+     */
+    static Component parseFull(String message) {
         Component result;
         
         try {
@@ -79,35 +484,8 @@ public class TextUtility {
             // This allows for mixed formatting like: "&cHello <bold>world</bold> &#FF0000"
             
             // Step 1: Convert legacy codes (including hex) to a format MiniMessage can understand
-            String processedMessage = message;
-            
-            // Handle legacy hex codes (&#RRGGBB) first
-            processedMessage = processedMessage.replaceAll("&#([0-9A-Fa-f]{6})", "<#$1>");
-            
-            // Handle standard legacy codes (&a, &l, etc.) by converting to MiniMessage equivalents
-            processedMessage = processedMessage
-                .replace("&0", "<black>")
-                .replace("&1", "<dark_blue>")
-                .replace("&2", "<dark_green>")
-                .replace("&3", "<dark_aqua>")
-                .replace("&4", "<dark_red>")
-                .replace("&5", "<dark_purple>")
-                .replace("&6", "<gold>")
-                .replace("&7", "<gray>")
-                .replace("&8", "<dark_gray>")
-                .replace("&9", "<blue>")
-                .replace("&a", "<green>")
-                .replace("&b", "<aqua>")
-                .replace("&c", "<red>")
-                .replace("&d", "<light_purple>")
-                .replace("&e", "<yellow>")
-                .replace("&f", "<white>")
-                .replace("&k", "<obfuscated>")
-                .replace("&l", "<bold>")
-                .replace("&m", "<strikethrough>")
-                .replace("&n", "<underlined>")
-                .replace("&o", "<italic>")
-                .replace("&r", "<reset>");
+            // This is a single scan that leaves messages without legacy codes untouched
+            String processedMessage = LegacyCodeTranspiler.transpile(message);
             
             // Step 2: Parse with MiniMessage (which now handles everything)
             result = miniMessage.deserialize(processedMessage);
@@ -131,57 +509,29 @@ public class TextUtility {
     }
 
     /**
-     * Apply default formatting (white, non-italic) to a component
-     * @param component The component to apply defaults to
-     * @return Component with defaults applied
+     * Serialize a component to a § legacy string with hex colors
+     *
+     * @param component The component to serialize
+     * @return The legacy string
      */
-    private static Component applyDefaults(Component component) {
-        // Apply defaults only if the component doesn't already have explicit formatting
-        Component result = component;
-        
-        // Force non-italic for all components (Minecraft GUI default is italic)
-        result = result.decoration(TextDecoration.ITALIC, false);
-        
-        // Apply white color if no color is set (check if it's the default/empty color)
-        if (component.color() == null) {
-            result = result.color(net.kyori.adventure.text.format.NamedTextColor.WHITE);
-        }
-        
-        return result;
+    static String serializeLegacy(Component component) {
+        return legacySerializer.serialize(component);
     }
 
     /**
-     * Check if a message contains MiniMessage formatting tags
-     * @param message The message to check
-     * @return True if MiniMessage tags are detected
+     * Apply default formatting (white, non-italic) to a component
+     * @param component The component to apply defaults to
+     * @return Component with defaults applied
      */
-    private static boolean containsMiniMessageTags(String message) {
-        return message.contains("<") && message.contains(">") && 
-               (message.contains("</") || message.matches(".*<[a-zA-Z_#][a-zA-Z0-9_#]*>.*"));
-    }
+    static Component applyDefaults(Component component) {
+        // Force non-italic (Minecraft GUI default is italic) and white if no color is set,
+        // in a single rebuild with a pooled style, or none at all if both are already in place
+        Style style = component.style();
+        if (StylePool.hasDefaults(style)) {
+            return component;
+        }
 
-    /**
-     * Check if a message contains legacy color codes
-     * @param message The message to check
-     * @return True if legacy codes are detected
-     */
-    private static boolean containsLegacyCodes(String message) {
-        // Check for standard legacy codes (&a, &f, etc.)
-        boolean hasStandardLegacy = message.contains("&") || message.contains("§");
-        
-        // Check for hex color codes (&#RRGGBB format)
-        boolean hasHexLegacy = message.matches(".*&#[0-9A-Fa-f]{6}.*");
-        
-        return hasStandardLegacy || hasHexLegacy;
-    }
-
-    /**
-     * Check if a message contains mixed formatting (both legacy and MiniMessage)
-     * @param message The message to check
-     * @return True if mixed formatting is detected
-     */
-    private static boolean containsMixedFormatting(String message) {
-        return containsLegacyCodes(message) && containsMiniMessageTags(message);
+        return component.style(StylePool.withDefaults(style));
     }
 
     /**
@@ -196,8 +546,29 @@ public class TextUtility {
             return;
         }
 
+        // Coalescing compares processed messages, keep the result so the message is only processed once
+        String processedMessage = null;
+        if (sender instanceof Player && messageCoalescer != null) {
+            processedMessage = processMessage(message);
+            if (coalesce((Player) sender, processedMessage)) {
+                return;
+            }
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            if (processedMessage != null) {
+                pipeline.submitProcessed(audience -> audience.sender(sender), processedMessage);
+            } else {
+                pipeline.submit(audience -> audience.sender(sender), message);
+            }
+            return;
+        }
+
         // processMessage handles custom variables like {prefix} and {scaled.separator}
-        String processedMessage = processMessage(message);
+        if (processedMessage == null) {
+            processedMessage = processMessage(message);
+        }
 
         // Send the parsed Component with proper defaults
         audiences.sender(sender).sendMessage(parse(processedMessage));
@@ -214,8 +585,91 @@ public class TextUtility {
             return;
         }
 
+        ConsoleWriter writer = consoleWriter;
+        if (writer != null) {
+            writer.submit(message);
+            return;
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.submit(BukkitAudiences::console, message);
+            return;
+        }
+
+        // The console takes the cached legacy form, so repeated lines are never serialized again
         String processedMessage = processMessage(message);
-        audiences.console().sendMessage(parse(processedMessage));
+        Bukkit.getConsoleSender().sendMessage(render(processedMessage).legacy());
+    }
+
+    /**
+     * Send several lines to the console as a single write
+     * Every line is processed and rendered first, then the block is joined and handed to the console at once,
+     * so it cannot be interleaved with other output. The block bypasses the async pipeline for the same reason,
+     * but goes through the console writer when one is enabled, which writes it as one entry.
+     * Empty lines are kept as blank lines.
+     *
+     * @param messages The lines to send, in order
+     */
+    public static void sendConsoleBlock(List<String> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (audiences == null) {
+            Bukkit.getConsoleSender().sendMessage(String.join("\n", messages)); // Fallback to raw if Adventure not initialized
+            return;
+        }
+
+        ConsoleWriter writer = consoleWriter;
+        if (writer != null) {
+            writer.submitBlock(messages);
+            return;
+        }
+
+        Bukkit.getConsoleSender().sendMessage(renderConsoleBlock(messages));
+    }
+
+    /**
+     * Render lines into one newline-joined legacy string
+     * Repeated lines use the cached legacy form, and the result is built in one presized buffer,
+     * so the cost follows the total length of the block rather than the number of lines
+     *
+     * @param messages The raw lines
+     * @return The rendered block
+     */
+    static String renderConsoleBlock(List<String> messages) {
+        String[] rendered = new String[messages.size()];
+        int length = rendered.length;
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = render(processMessage(messages.get(i))).legacy();
+            length += rendered[i].length();
+        }
+
+        StringBuilder block = new StringBuilder(length);
+        for (int i = 0; i < rendered.length; i++) {
+            if (i > 0) {
+                block.append('\n');
+            }
+            block.append(rendered[i]);
+        }
+        return block.toString();
+    }
+
+    /**
+     * Render lines ahead of time so sending them later takes the rendered forms from the parse cache
+     * Safe to call from worker threads; does nothing when the parse cache is disabled or Adventure
+     * is not initialized, since the lines would not be rendered when sent either
+     *
+     * @param messages The raw lines
+     */
+    public static void prerender(List<String> messages) {
+        if (parseCache == null || audiences == null) {
+            return;
+        }
+        for (String message : messages) {
+            render(processMessage(message)).legacy();
+        }
     }
 
     /**
@@ -231,7 +685,11 @@ public class TextUtility {
         }
 
         String processedMessage = processMessage(message);
-        audiences.player(player).sendMessage(parse(processedMessage));
+        if (coalesce(player, processedMessage)) {
+            return;
+        }
+
+        dispatchToPlayer(player, processedMessage);
     }
 
     /**
@@ -245,10 +703,386 @@ public class TextUtility {
             return;
         }
 
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.submit(BukkitAudiences::all, message);
+            return;
+        }
+
         String processedMessage = processMessage(message);
         audiences.all().sendMessage(parse(processedMessage));
     }
 
+    /**
+     * Send an already rendered component to a command sender
+     *
+     * @param sender The command sender to receive the message
+     * @param component The component to send
+     */
+    public static void sendMessage(CommandSender sender, Component component) {
+        if (audiences == null) {
+            sender.sendMessage(legacySerializer.serialize(component)); // Fallback to legacy text if Adventure not initialized
+            return;
+        }
+
+        if (sender instanceof Player && coalesce((Player) sender, component)) {
+            return;
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.submit(audience -> audience.sender(sender), component);
+            return;
+        }
+
+        audiences.sender(sender).sendMessage(component);
+    }
+
+    /**
+     * Send an already rendered component to the console
+     *
+     * @param component The component to send
+     */
+    public static void sendConsoleMessage(Component component) {
+        if (audiences == null) {
+            Bukkit.getConsoleSender().sendMessage(legacySerializer.serialize(component));
+            return;
+        }
+
+        ConsoleWriter writer = consoleWriter;
+        if (writer != null) {
+            writer.submit(component);
+            return;
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.submit(BukkitAudiences::console, component);
+            return;
+        }
+
+        audiences.console().sendMessage(component);
+    }
+
+    /**
+     * Send an already rendered component to a player
+     *
+     * @param player The player to receive the message
+     * @param component The component to send
+     */
+    public static void sendPlayerMessage(Player player, Component component) {
+        if (audiences == null) {
+            player.sendMessage(legacySerializer.serialize(component));
+            return;
+        }
+
+        if (coalesce(player, component)) {
+            return;
+        }
+
+        dispatchToPlayer(player, component);
+    }
+
+    /**
+     * Start building a paged document for long multi-line output
+     * Lines are supplied lazily and only the page being viewed is processed and parsed
+     *
+     * @return A new document builder
+     */
+    public static PagedDocument.Builder document() {
+        return PagedDocument.builder();
+    }
+
+    /**
+     * Send an action bar to a player
+     * Skipped when the player already sees the same action bar and it has not started to fade
+     *
+     * @param player The player to receive the action bar
+     * @param message The message to show
+     */
+    public static void sendActionBar(Player player, String message) {
+        displayTracker.actionBar(player, processMessage(message != null ? message : ""));
+    }
+
+    /**
+     * Send an already rendered action bar to a player
+     * Skipped when the player already sees the same action bar and it has not started to fade
+     *
+     * @param player The player to receive the action bar
+     * @param component The component to show
+     */
+    public static void sendActionBar(Player player, Component component) {
+        displayTracker.actionBar(player, component);
+    }
+
+    /**
+     * Show a title and subtitle to a player with the default times
+     * Skipped while the player still sees the same title
+     *
+     * @param player The player to receive the title
+     * @param title The title message
+     * @param subtitle The subtitle message
+     */
+    public static void sendTitle(Player player, String title, String subtitle) {
+        sendTitle(player, title, subtitle, null);
+    }
+
+    /**
+     * Show a title and subtitle to a player
+     * Skipped while the player still sees the same title
+     *
+     * @param player The player to receive the title
+     * @param title The title message
+     * @param subtitle The subtitle message
+     * @param times The fade in, stay and fade out times, or null for the defaults
+     */
+    public static void sendTitle(Player player, String title, String subtitle, Title.Times times) {
+        displayTracker.title(player,
+            processMessage(title != null ? title : ""),
+            processMessage(subtitle != null ? subtitle : ""),
+            times);
+    }
+
+    /**
+     * Show an already rendered title and subtitle to a player
+     * Skipped while the player still sees the same title
+     *
+     * @param player The player to receive the title
+     * @param title The title component
+     * @param subtitle The subtitle component
+     * @param times The fade in, stay and fade out times, or null for the defaults
+     */
+    public static void sendTitle(Player player, Component title, Component subtitle, Title.Times times) {
+        displayTracker.title(player, title, subtitle, times);
+    }
+
+    /**
+     * Clear the title of a player
+     *
+     * @param player The player
+     */
+    public static void clearTitle(Player player) {
+        displayTracker.clearTitle(player);
+    }
+
+    /**
+     * Show or update a player's boss bar with the default color and overlay
+     * Each player has a single boss bar; only changed properties are sent
+     *
+     * @param player The player to show the boss bar to
+     * @param name The boss bar text
+     * @param progress The progress between 0 and 1
+     */
+    public static void showBossBar(Player player, String name, float progress) {
+        showBossBar(player, name, progress, BossBar.Color.WHITE, BossBar.Overlay.PROGRESS);
+    }
+
+    /**
+     * Show or update a player's boss bar
+     * Each player has a single boss bar; only changed properties are sent
+     *
+     * @param player The player to show the boss bar to
+     * @param name The boss bar text
+     * @param progress The progress between 0 and 1
+     * @param color The bar color
+     * @param overlay The bar overlay
+     */
+    public static void showBossBar(Player player, String name, float progress, BossBar.Color color, BossBar.Overlay overlay) {
+        displayTracker.bossBar(player, processMessage(name != null ? name : ""), progress, color, overlay);
+    }
+
+    /**
+     * Show or update a player's boss bar with an already rendered name
+     * Each player has a single boss bar; only changed properties are sent
+     *
+     * @param player The player to show the boss bar to
+     * @param name The boss bar component
+     * @param progress The progress between 0 and 1
+     * @param color The bar color
+     * @param overlay The bar overlay
+     */
+    public static void showBossBar(Player player, Component name, float progress, BossBar.Color color, BossBar.Overlay overlay) {
+        displayTracker.bossBar(player, name, progress, color, overlay);
+    }
+
+    /**
+     * Hide a player's boss bar
+     *
+     * @param player The player
+     */
+    public static void hideBossBar(Player player) {
+        displayTracker.hideBossBar(player);
+    }
+
+    /**
+     * Release everything tracked for a player, called when the player leaves the server
+     *
+     * @param player The player
+     */
+    public static void releasePlayer(Player player) {
+        displayTracker.release(player.getUniqueId());
+    }
+
+    /**
+     * Resolve a processed message or component to a component
+     *
+     * @param content The processed message or component
+     * @return The component
+     */
+    static Component toComponent(Object content) {
+        return content instanceof Component ? (Component) content : parse((String) content);
+    }
+
+    /**
+     * Hand a player message to the coalescer if coalescing is enabled
+     * Only main-thread sends are coalesced, the coalescer is not thread-safe
+     *
+     * @param player The receiving player
+     * @param message The processed message or component
+     * @return True if the coalescer took the message
+     */
+    private static boolean coalesce(Player player, Object message) {
+        MessageCoalescer coalescer = messageCoalescer;
+        if (coalescer == null || !Bukkit.isPrimaryThread()) {
+            return false;
+        }
+
+        coalescer.offer(player, message);
+        return true;
+    }
+
+    /**
+     * Send a processed message or component to a player, through the async pipeline if it is enabled
+     *
+     * @param player The receiving player
+     * @param message The processed message or component
+     */
+    static void dispatchToPlayer(Player player, Object message) {
+        BukkitAudiences current = audiences;
+        if (current == null) {
+            return;
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (message instanceof Component) {
+            Component component = (Component) message;
+            if (pipeline != null) {
+                pipeline.submit(audience -> audience.player(player), component);
+            } else {
+                current.player(player).sendMessage(component);
+            }
+            return;
+        }
+
+        String processedMessage = (String) message;
+        if (pipeline != null) {
+            pipeline.submitProcessed(audience -> audience.player(player), processedMessage);
+        } else {
+            current.player(player).sendMessage(parse(processedMessage));
+        }
+    }
+
+    /**
+     * Append a suffix to a processed message or component
+     *
+     * @param message The processed message or component
+     * @param suffix The suffix, in any supported format
+     * @return The message with the suffix appended, of the same type
+     */
+    static Object appendSuffix(Object message, String suffix) {
+        if (message instanceof Component) {
+            return ((Component) message).append(parse(suffix));
+        }
+        return message + suffix;
+    }
+
+    /**
+     * Broadcast an already rendered component to all players and console
+     *
+     * @param component The component to broadcast
+     */
+    public static void broadcastMessage(Component component) {
+        if (audiences == null) {
+            Bukkit.broadcastMessage(legacySerializer.serialize(component));
+            return;
+        }
+
+        AsyncMessagePipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.submit(BukkitAudiences::all, component);
+            return;
+        }
+
+        audiences.all().sendMessage(component);
+    }
+
+    /**
+     * Broadcast a personalized message to all online players
+     * The template is parsed once; each player's values are resolved and rendered in parallel batches
+     * on the render workers, and the finished components are sent from the main thread.
+     * Must be called from the main thread. The values function runs on worker threads, so it should only
+     * read thread-safe player state (name, UUID, cached data).
+     *
+     * @param message The raw lang message containing {placeholder} variables
+     * @param values Function returning the key-value pairs for a player
+     * @return A future completed once every message has been dispatched
+     */
+    public static CompletableFuture<Void> broadcastMessage(String message, Function<Player, String[]> values) {
+        List<Player> players = new ArrayList<>(Bukkit.getOnlinePlayers());
+        if (players.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        ComponentTemplate template = componentTemplate(message);
+
+        // Without a plugin to schedule on, render and send inline
+        if (owningPlugin == null) {
+            for (Player player : players) {
+                sendPlayerMessage(player, template.render(values.apply(player)));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Component[] rendered = new Component[players.size()];
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        for (int start = 0; start < players.size(); start += BROADCAST_BATCH_SIZE) {
+            int from = start;
+            int to = Math.min(players.size(), start + BROADCAST_BATCH_SIZE);
+            batches.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    rendered[i] = template.render(values.apply(players.get(i)));
+                }
+            }, RenderWorkers.executor()));
+        }
+
+        CompletableFuture<Void> dispatched = new CompletableFuture<>();
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            if (error != null) {
+                dispatched.completeExceptionally(error);
+                return;
+            }
+
+            // Hand the finished components back to the main thread for sending
+            try {
+                Bukkit.getScheduler().runTask(owningPlugin, () -> {
+                    for (int i = 0; i < rendered.length; i++) {
+                        Player player = players.get(i);
+                        if (player.isOnline()) {
+                            sendPlayerMessage(player, rendered[i]);
+                        }
+                    }
+                    dispatched.complete(null);
+                });
+            } catch (Exception e) {
+                // The plugin was disabled while rendering
+                dispatched.completeExceptionally(e);
+            }
+        });
+
+        return dispatched;
+    }
+
     /**
      * Process any message through the complete TextUtility system.
      * This automatically handles prefix, scaled separators, and any other processing.
@@ -274,23 +1108,23 @@ public class TextUtility {
 
     /**
      * Replace variables in a message template
+     * The message is compiled once into a cached {@link MessageTemplate} and rendered in a single pass
+     *
      * @param message The message template
      * @param replacements Variable replacements (key-value pairs)
      * @return The message with variables replaced
      */
     public static String replaceVariables(String message, String... replacements) {
-        if (message == null || replacements.length % 2 != 0) {
+        if (message == null || replacements == null || replacements.length == 0 || replacements.length % 2 != 0) {
             return message;
         }
 
-        // First do variable replacements
-        for (int i = 0; i < replacements.length; i += 2) {
-            String key = replacements[i];
-            String value = replacements[i + 1];
-            message = message.replace("{" + key + "}", value);
+        // Nothing to replace, don't bother compiling or caching the message
+        if (message.indexOf('{') < 0) {
+            return message;
         }
 
-        return message;
+        return template(message).render(replacements);
     }
 
     /**
@@ -309,32 +1143,25 @@ public class TextUtility {
      * @param message The message containing {prefix}
      * @return The message with prefix replaced
      */
-    private static String replacePrefixVariable(String message) {
+    static String replacePrefixVariable(String message) {
         if (!message.contains("{prefix}")) {
             return message;
         }
 
-        CoreFramework framework = CoreFramework.getInstance();
-        if (framework == null) {
-            // Fallback if framework isn't initialized
-            return message.replace("{prefix}", "[CoreFramework]");
-        }
-
-        // Check if prefix is enabled
-        boolean prefixEnabled = framework.getInternalConfig().getBoolean("prefix.enabled", true);
-        if (!prefixEnabled) {
+        FormattingSettings current = settings;
+        if (!current.isPrefixEnabled()) {
             // Remove prefix entirely
             return message.replace("{prefix}", "").trim();
         }
 
-        // Get the prefix from language config
-        String prefix = framework.getLanguageConfig().getString("prefix", "[CoreFramework]");
-        return message.replace("{prefix}", prefix);
+        return message.replace("{prefix}", current.getPrefix());
     }
 
     /**
      * Replace {scaled.separator} with calculated strikethrough padding
      * This ensures the TOTAL line length equals the configured target length
+     * Lang lines are validated against the line length when the language loads; content that is
+     * still too long here simply gets the minimum padding.
      *
      * @param message The message containing {scaled.separator}
      * @return The message with scaled separator replaced
@@ -344,66 +1171,64 @@ public class TextUtility {
             return message;
         }
 
-        // Get configuration values
-        int targetTotalLength = getConfiguredLineLength();
-        int minPadding = getConfiguredMinPadding();
-
         // Remove the separator marker to calculate content length
         String contentWithoutSeparator = message.replace(SCALED_SEPARATOR_MARKER, "");
-        String plainTextContent = stripFormattingForLength(contentWithoutSeparator);
-
-        int contentLength = plainTextContent.length();
-        int neededPadding = targetTotalLength - contentLength;
-
-        // Check if the content is too long (safety check)
-        if (neededPadding < minPadding) {
-            CoreFramework framework = CoreFramework.getInstance();
-            if (framework != null) {
-                String errorMessage = String.format(
-                    "FATAL ERROR: Line content too long for configured line_length! " +
-                    "Content length: %d, Target length: %d, Min padding: %d. " +
-                    "Line: %s",
-                    contentLength, targetTotalLength, minPadding, message
-                );
-                framework.getLogger().severe(errorMessage);
-
-                // Disable the plugin
-                framework.getServer().getPluginManager().disablePlugin(framework);
-
-                // Return a safe fallback
-                return message.replace(SCALED_SEPARATOR_MARKER, "<strikethrough>" + PADDING_CHAR.repeat(minPadding) + "</strikethrough>");
-            }
-        }
+        int contentLength = stripFormattingForLength(contentWithoutSeparator).length();
 
         // Create the separator with the calculated padding using MiniMessage format
-        String dynamicPadding = "<strikethrough>" + PADDING_CHAR.repeat(neededPadding) + "</strikethrough>";
-        return message.replace(SCALED_SEPARATOR_MARKER, dynamicPadding);
+        return message.replace(SCALED_SEPARATOR_MARKER, scaledSeparator(contentLength));
+    }
+
+    /**
+     * Build the strikethrough separator for a line whose visible content has the given width
+     *
+     * @param contentLength The visible width of the line without its separator
+     * @return The separator in MiniMessage format
+     */
+    static String scaledSeparator(int contentLength) {
+        return "<strikethrough>" + PADDING_CHAR.repeat(scaledSeparatorPadding(contentLength)) + "</strikethrough>";
     }
 
     /**
-     * Get the configured line length from the framework config
+     * Calculate the separator padding for a line whose visible content has the given width
+     * Lines that are too long get the minimum padding
+     *
+     * @param contentLength The visible width of the line without its separator
+     * @return The number of padding characters
+     */
+    static int scaledSeparatorPadding(int contentLength) {
+        return Math.max(getConfiguredMinPadding(), getConfiguredLineLength() - contentLength);
+    }
+
+    /**
+     * Get the configured line length from the settings snapshot
      * @return The target line length
      */
     private static int getConfiguredLineLength() {
-        CoreFramework framework = CoreFramework.getInstance();
-        if (framework == null) {
-            return 60; // Default fallback
-        }
-
-        return framework.getInternalConfig().getInt("formatting.line_length", 60);
+        return settings.getLineLength();
     }
 
     /**
-     * Get the configured minimum padding from the framework config
+     * Get the configured minimum padding from the settings snapshot
      * @return The minimum padding spaces
      */
     private static int getConfiguredMinPadding() {
-        CoreFramework framework = CoreFramework.getInstance();
-        if (framework == null) {
-            return 2; // Default fallback
-        }
+        return settings.getMinPadding();
+    }
 
-        return framework.getInternalConfig().getInt("formatting.min_padding", 2);
+    /**
+     * Get the visible width of a value, skipping the strip when it cannot contain formatting
+     * @param value The value
+     * @return The number of visible characters
+     */
+    static int visibleLength(String value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.indexOf('<') < 0 && value.indexOf('&') < 0 && value.indexOf('§') < 0) {
+            return value.length();
+        }
+        return stripFormattingForLength(value).length();
     }
 
     /**
@@ -411,7 +1236,7 @@ public class TextUtility {
      * @param message The message with formatting.
      * @return The plain text content.
      */
-    private static String stripFormattingForLength(String message) {
+    static String stripFormattingForLength(String message) {
         // Strip MiniMessage tags first
         String strippedMiniMessage = message.replaceAll("<[^>]+>", "");
         
@@ -0,0 +1,101 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential test of the legacy fast path in TextUtility.parseUncached against the transpiler and MiniMessage
+ * Whatever route FormatClassifier picks, every character must come out with the same color and decorations
+ */
+class FormatClassifierTest {
+
+    // Every character that can start, continue or break a legacy code, in both cases and with both markers
+    private static final String ALPHABET = "&&&&§§##0123456789abcdefABCDEFklmnorxXzK ";
+
+    private static final long SEED = 0x5EEDL;
+    private static final int RANDOM_MESSAGES = 200_000;
+    private static final int MAX_LENGTH = 24;
+
+    /**
+     * Describe how a component renders: each character followed by its resolved color and decorations
+     */
+    private static String visual(Component component) {
+        StringBuilder visual = new StringBuilder();
+        flatten(component, Style.empty(), visual);
+        return visual.toString();
+    }
+
+    private static void flatten(Component component, Style parent, StringBuilder visual) {
+        Style style = component.style().merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        if (component instanceof TextComponent) {
+            for (char c : ((TextComponent) component).content().toCharArray()) {
+                visual.append(c).append('[').append(style.color());
+                for (TextDecoration decoration : TextDecoration.values()) {
+                    visual.append(',').append(style.decoration(decoration));
+                }
+                visual.append(']');
+            }
+        }
+        for (Component child : component.children()) {
+            flatten(child, style, visual);
+        }
+    }
+
+    private static void assertSameRendering(String message) {
+        assertEquals(visual(TextUtility.parseFull(message)), visual(TextUtility.parseUncached(message)),
+            message + " (" + FormatClassifier.classify(message) + ")");
+    }
+
+    @Test
+    void keepsColorOnlyMessagesOnTheLegacyPath() {
+        assertEquals(FormatClassifier.Format.PLAIN, FormatClassifier.classify("No codes at all"));
+        assertEquals(FormatClassifier.Format.LEGACY_AMPERSAND, FormatClassifier.classify("&8[&9CoreFramework&8] &7Plugin &#FFAA00ready"));
+        assertEquals(FormatClassifier.Format.LEGACY_AMPERSAND, FormatClassifier.classify("&cRed &lbold &rreset &agreen"));
+        assertEquals(FormatClassifier.Format.LEGACY_SECTION, FormatClassifier.classify("§cRed §lbold"));
+    }
+
+    @Test
+    void routesCodesOnlyMiniMessageReadsRightToTheFullParser() {
+        List<String> messages = Arrays.asList(
+            "&l&cBold red",
+            "&lBold &aGreen",
+            "&aHi &Cthere",
+            "&oItalic",
+            "&x&f&f&0&0&0&0hex",
+            "§x§f§f§0§0§0§0hex",
+            "§lBold §aGreen",
+            "§Cupper",
+            "text §z"
+        );
+
+        for (String message : messages) {
+            assertEquals(FormatClassifier.Format.MIXED, FormatClassifier.classify(message), message);
+            assertSameRendering(message);
+        }
+    }
+
+    @Test
+    void rendersLikeTheFullParserOnRandomCorpus() {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(MAX_LENGTH);
+
+        for (int i = 0; i < RANDOM_MESSAGES; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(MAX_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+
+            assertSameRendering(builder.toString());
+        }
+    }
+}
\ No newline at end of file
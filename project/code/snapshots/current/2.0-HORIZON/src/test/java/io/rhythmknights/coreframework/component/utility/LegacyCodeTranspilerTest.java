@@ -0,0 +1,153 @@
+package io.rhythmknights.coreframework.component.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Differential test of LegacyCodeTranspiler against the regex and replace chain it replaced in TextUtility.parse
+ * For &amp; codes the output must be identical; § codes are only handled by the transpiler and are checked separately
+ */
+class LegacyCodeTranspilerTest {
+
+    // Every character that can start, continue or break an & code; § codes are not known to the reference
+    private static final String ALPHABET = "&&&&##0123456789abcdefABCDEFklmnorxXgG<>/ ";
+
+    private static final long SEED = 0x5EEDL;
+    private static final int RANDOM_MESSAGES = 200_000;
+    private static final int MAX_LENGTH = 24;
+
+    /**
+     * The conversion TextUtility.parse used before the transpiler, kept as the reference
+     */
+    private static String referenceChain(String message) {
+        String processedMessage = message;
+
+        processedMessage = processedMessage.replaceAll("&#([0-9A-Fa-f]{6})", "<#$1>");
+
+        processedMessage = processedMessage
+            .replace("&0", "<black>")
+            .replace("&1", "<dark_blue>")
+            .replace("&2", "<dark_green>")
+            .replace("&3", "<dark_aqua>")
+            .replace("&4", "<dark_red>")
+            .replace("&5", "<dark_purple>")
+            .replace("&6", "<gold>")
+            .replace("&7", "<gray>")
+            .replace("&8", "<dark_gray>")
+            .replace("&9", "<blue>")
+            .replace("&a", "<green>")
+            .replace("&b", "<aqua>")
+            .replace("&c", "<red>")
+            .replace("&d", "<light_purple>")
+            .replace("&e", "<yellow>")
+            .replace("&f", "<white>")
+            .replace("&k", "<obfuscated>")
+            .replace("&l", "<bold>")
+            .replace("&m", "<strikethrough>")
+            .replace("&n", "<underlined>")
+            .replace("&o", "<italic>")
+            .replace("&r", "<reset>");
+
+        return processedMessage;
+    }
+
+    @Test
+    void matchesReferenceOnLanguageFile() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("lang/global.yml")) {
+            assertNotNull(stream, "lang/global.yml is missing from the classpath");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+
+        for (String line : lines) {
+            assertEquals(referenceChain(line), LegacyCodeTranspiler.transpile(line), line);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnEdgeCases() {
+        List<String> messages = Arrays.asList(
+            "",
+            "&",
+            "&&",
+            "&&a",
+            "a&",
+            "&z no code",
+            "&cRed &lbold &rreset",
+            "&#FF0000red &#00ff00green",
+            "&#FF00",
+            "&#GGGGGG",
+            "&#&aFFFFF",
+            "&#FF0000&#00FF00",
+            "&&#123456",
+            "<bold>&6gold</bold> &#abcdef<italic>",
+            "plain MiniMessage <gradient:red:blue>text</gradient>"
+        );
+
+        for (String message : messages) {
+            assertEquals(referenceChain(message), LegacyCodeTranspiler.transpile(message), message);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnRandomCorpus() {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(MAX_LENGTH);
+
+        for (int i = 0; i < RANDOM_MESSAGES; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(MAX_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+
+            String message = builder.toString();
+            assertEquals(referenceChain(message), LegacyCodeTranspiler.transpile(message), message);
+        }
+    }
+
+    @Test
+    void convertsSectionCodes() {
+        assertEquals("<red>Red <bold>bold <reset>reset", LegacyCodeTranspiler.transpile("§cRed §lbold §rreset"));
+        assertEquals("<gold>mixed <green>codes", LegacyCodeTranspiler.transpile("§6mixed &acodes"));
+        assertEquals("<black><dark_blue><white><obfuscated><underlined><italic>", LegacyCodeTranspiler.transpile("§0§1§f§k§n§o"));
+
+        // Every § code converts to the same tag as its & form
+        for (char code : "0123456789abcdefklmnor".toCharArray()) {
+            assertEquals(referenceChain("&" + code), LegacyCodeTranspiler.transpile("§" + code), "§" + code);
+        }
+    }
+
+    @Test
+    void leavesUnknownSectionCodesAlone() {
+        // Hex colors are only recognized after &, and characters without a code stay as they are
+        assertEquals("§#FF0000", LegacyCodeTranspiler.transpile("§#FF0000"));
+        assertEquals("§z §A §", LegacyCodeTranspiler.transpile("§z §A §"));
+        assertEquals("§<green>", LegacyCodeTranspiler.transpile("§§a"));
+    }
+
+    @Test
+    void returnsSameInstanceWithoutCodes() {
+        String message = "<green>No legacy codes & nothing to convert</green>";
+        assertSame(message, LegacyCodeTranspiler.transpile(message));
+        assertNull(LegacyCodeTranspiler.transpile(null));
+    }
+}
\ No newline at end of file